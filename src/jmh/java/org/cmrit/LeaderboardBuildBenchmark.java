@@ -0,0 +1,63 @@
+package org.cmrit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the in-memory part of build_leaderboard: parsing a rating file and scoring the users.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardBuildBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    int users;
+
+    private ByteBuffer ratingFile;
+    private List<User> roster;
+    private List<ScoringProfile> profiles;
+
+    @Setup
+    public void setUp() {
+        ratingFile = ByteBuffer.wrap(SyntheticRoster.ratingFile(users));
+        roster = SyntheticRoster.users(users);
+        profiles = List.of(
+                ScoringProfile.BUILT_IN,
+                new ScoringProfile("contest", new double[]{0.25, 0.25, 0, 0.25, 0.25, 0}),
+                new ScoringProfile("practice", new double[]{0, 0, 0.5, 0, 0, 0.5}));
+    }
+
+    @Benchmark
+    public int parseRatingFile() {
+        RatingFileLoader.Parsed parsed = new RatingFileLoader.Parsed();
+        RatingFileLoader.parse(ratingFile, parsed);
+        return parsed.size;
+    }
+
+    @Benchmark
+    public List<User> scoreLeaderboard() {
+        return ScoringEngine.rankAll(roster, List.of(ScoringProfile.BUILT_IN)).get(0).users;
+    }
+
+    @Benchmark
+    public List<ScoringEngine.Ranking> scoreThreeProfiles() {
+        return ScoringEngine.rankAll(roster, profiles);
+    }
+}
@@ -0,0 +1,98 @@
+package org.cmrit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks of the parts of a run that write to disk: the roster import, the leaderboard table and the exports.
+ * They write into the working directory, which the jmh Gradle task points at build/jmh-work. Run them with
+ * -p users=1000000 for the largest roster; the default sizes keep a full run short.
+ *
+ * The JSON exporter leaves pages whose content did not change untouched, so exportJson starts every invocation from
+ * an empty output directory and exportJsonUnchanged measures the rerun over pages that are already up to date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LeaderboardStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int users;
+
+    private Path participantCsv;
+    private List<User> leaderboard;
+
+    @Setup
+    public void setUp() throws IOException {
+        participantCsv = Files.createTempFile("participants", ".csv");
+        participantCsv.toFile().deleteOnExit();
+        SyntheticRoster.writeParticipantCsv(participantCsv, users);
+        leaderboard = ScoringEngine.rankAll(SyntheticRoster.users(users), List.of(ScoringProfile.BUILT_IN)).get(0).users;
+    }
+
+    @Benchmark
+    public void loadCsvToSql() {
+        CMRITLeaderboard2026.loadCSVtoSQL(participantCsv.toString());
+    }
+
+    @Benchmark
+    public void uploadLeaderboardToDatabase() {
+        CMRITLeaderboard2026.uploadLeaderboardToDatabase(leaderboard);
+    }
+
+    @Benchmark
+    public void exportXlsx() {
+        LeaderboardExporter.export(leaderboard);
+    }
+
+    @Benchmark
+    public void exportJson(EmptyJsonDirectory directory) {
+        LeaderboardJsonExporter.export(leaderboard);
+    }
+
+    @Benchmark
+    public void exportJsonUnchanged() {
+        LeaderboardJsonExporter.export(leaderboard);
+    }
+
+    /**
+     * Deletes the JSON pages before every invocation, so each export writes all of them.
+     */
+    @State(Scope.Thread)
+    public static class EmptyJsonDirectory {
+
+        @Setup(Level.Invocation)
+        public void clear() throws IOException {
+            Path directory = Path.of(LeaderboardJsonExporter.OUTPUT_DIRECTORY);
+            if (!Files.exists(directory)) {
+                return;
+            }
+            try (Stream<Path> paths = Files.walk(directory)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.cmrit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.security.NoSuchAlgorithmException;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the per-request work of the scrapers: decoding platform responses with the streaming decoders and
+ * signing a Codeforces API call. The payloads are synthetic responses shaped like the real ones, with the fields
+ * the decoders skip included.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlatformDecodeBenchmark {
+
+    // Entries per payload, e.g. handles per Codeforces user.info call
+    @Param({"100", "1000"})
+    int entries;
+
+    private byte[] codeforcesUserInfo;
+    private byte[] leetcodeBatch;
+    private byte[] geeksforgeeksPracticeStats;
+    private byte[] hackerrankLeaderboard;
+    private String codeforcesHandles;
+
+    @Setup
+    public void setUp() {
+        codeforcesUserInfo = SyntheticRoster.codeforcesUserInfo(entries);
+        leetcodeBatch = SyntheticRoster.leetcodeBatch(entries);
+        geeksforgeeksPracticeStats = SyntheticRoster.geeksforgeeksPracticeStats(entries);
+        hackerrankLeaderboard = SyntheticRoster.hackerrankLeaderboard(entries);
+        StringJoiner handles = new StringJoiner(";");
+        for (int i = 0; i < entries; i++) {
+            handles.add("cf_" + i);
+        }
+        codeforcesHandles = handles.toString();
+    }
+
+    @Benchmark
+    public CMRITLeaderboard2026.CodeforcesResponse decodeCodeforces() throws IOException {
+        return JsonStreams.decode(new ByteArrayInputStream(codeforcesUserInfo), CMRITLeaderboard2026.CodeforcesResponse::read);
+    }
+
+    @Benchmark
+    public CMRITLeaderboard2026.LeetcodeBatchResponse decodeLeetcode() throws IOException {
+        return JsonStreams.decode(new ByteArrayInputStream(leetcodeBatch), CMRITLeaderboard2026.LeetcodeBatchResponse::read);
+    }
+
+    @Benchmark
+    public CMRITLeaderboard2026.GeeksforgeeksStatsResponse decodeGeeksforgeeksPractice() throws IOException {
+        return JsonStreams.decode(new ByteArrayInputStream(geeksforgeeksPracticeStats), CMRITLeaderboard2026.GeeksforgeeksStatsResponse::read);
+    }
+
+    @Benchmark
+    public CMRITLeaderboard2026.Leaderboard decodeHackerrank() throws IOException {
+        return JsonStreams.decode(new ByteArrayInputStream(hackerrankLeaderboard), CMRITLeaderboard2026.Leaderboard::read);
+    }
+
+    @Benchmark
+    public String generateApiSig() throws NoSuchAlgorithmException {
+        return CMRITLeaderboard2026.generateApiSig("a1b2c3", "user.info", codeforcesHandles, 1700000000L, "secret");
+    }
+}
@@ -0,0 +1,182 @@
+package org.cmrit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The SyntheticRoster generates rosters, rating files and platform payloads of any size for the benchmarks. Output
+ * depends only on the size and the seed, so every run and every commit benchmarks the same data.
+ *
+ * Ratings are skewed like the real ones: most participants have no rating on a platform, and ratings cluster at the
+ * low end with a long tail.
+ */
+final class SyntheticRoster {
+
+    static final long SEED = 2026;
+
+    private SyntheticRoster() {
+    }
+
+    // Handle of the i-th participant, shaped like a roll number
+    static String handle(int i) {
+        return String.format("26R01A%06d", i);
+    }
+
+    /**
+     * Generates users with handles and ratings on every platform.
+     *
+     * @param  size  the number of users
+     * @return       the users, in handle order
+     */
+    static List<User> users(int size) {
+        Random random = new Random(SEED);
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String handle = handle(i);
+            User user = new User(handle, "cf_" + i, "gfg_" + i, "lc_" + i, "cc_" + i, "hr_" + i);
+            user.setCodeforcesRating(rating(random, 0.6, 3500));
+            user.setGeeksforgeeksRating(rating(random, 0.4, 1500));
+            user.setgeeksforgeeksPracticeRating(rating(random, 0.7, 3000));
+            user.setLeetcodeRating(rating(random, 0.5, 3000));
+            user.setCodechefRating(rating(random, 0.5, 2800));
+            user.setHackerrankRating(rating(random, 0.3, 500));
+            users.add(user);
+        }
+        return users;
+    }
+
+    // A rating that is present with the given probability, skewed towards the low end
+    private static int rating(Random random, double present, int max) {
+        if (random.nextDouble() >= present) {
+            return 0;
+        }
+        double skewed = random.nextDouble() * random.nextDouble();
+        return (int) (skewed * max);
+    }
+
+    /**
+     * Writes a participant CSV in the format of src/main/resources/participant_details.csv.
+     *
+     * @param  path  the file to write
+     * @param  size  the number of participants
+     * @throws IOException  if the file cannot be written
+     */
+    static void writeParticipantCsv(Path path, int size) throws IOException {
+        Random random = new Random(SEED);
+        StringBuilder csv = new StringBuilder(size * 120);
+        csv.append("Handle,GeeksForGeeks Handle,Codeforces Handle,LeetCode Handle,CodeChef Handle,HackerRank Handle,")
+                .append("GeeksForGeeks URL Exists,Codeforces URL Exists,LeetCode URL Exists,CodeChef URL Exists,HackerRank URL Exists\n");
+        for (int i = 0; i < size; i++) {
+            csv.append(handle(i)).append(",gfg_").append(i).append(",cf_").append(i).append(",lc_").append(i)
+                    .append(",cc_").append(i).append(",hr_").append(i);
+            for (int platform = 0; platform < 5; platform++) {
+                csv.append(',').append(random.nextInt(10) < 8 ? "True" : "False");
+            }
+            csv.append('\n');
+        }
+        Files.writeString(path, csv, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates the content of a rating file, one "handle,platformHandle,rating" line per user.
+     *
+     * @param  size  the number of lines
+     * @return       the file content
+     */
+    static byte[] ratingFile(int size) {
+        Random random = new Random(SEED);
+        StringBuilder file = new StringBuilder(size * 32);
+        for (int i = 0; i < size; i++) {
+            file.append(handle(i)).append(",cf_").append(i).append(',').append(rating(random, 1, 3500)).append('\n');
+        }
+        return file.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates a Codeforces user.info response for a batch of handles.
+     */
+    static byte[] codeforcesUserInfo(int size) {
+        Random random = new Random(SEED);
+        StringBuilder json = new StringBuilder("{\"status\":\"OK\",\"result\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"lastName\":\"Student\",\"country\":\"India\",\"lastOnlineTimeSeconds\":1700000000,")
+                    .append("\"city\":\"Hyderabad\",\"rating\":").append(rating(random, 1, 3500))
+                    .append(",\"friendOfCount\":").append(random.nextInt(50))
+                    .append(",\"titlePhoto\":\"https://userpic.codeforces.org/no-title.jpg\",\"handle\":\"cf_").append(i)
+                    .append("\",\"avatar\":\"https://userpic.codeforces.org/no-avatar.jpg\",\"firstName\":\"Synthetic\",")
+                    .append("\"contribution\":0,\"organization\":\"CMRIT\",\"rank\":\"pupil\",\"maxRating\":")
+                    .append(rating(random, 1, 3500)).append(",\"registrationTimeSeconds\":1600000000,")
+                    .append("\"maxRank\":\"specialist\"}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates an aliased LeetCode userContestRanking response for a batch of handles; every tenth has no ranking.
+     */
+    static byte[] leetcodeBatch(int size) {
+        Random random = new Random(SEED);
+        StringBuilder json = new StringBuilder("{\"data\":{");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("\"u").append(i).append("\":");
+            if (i % 10 == 0) {
+                json.append("null");
+            } else {
+                json.append("{\"attendedContestsCount\":").append(random.nextInt(80))
+                        .append(",\"rating\":").append(1200 + random.nextDouble() * 1500)
+                        .append(",\"globalRanking\":").append(random.nextInt(500000))
+                        .append(",\"totalParticipants\":600000,\"topPercentage\":").append(random.nextDouble() * 100)
+                        .append('}');
+            }
+        }
+        return json.append("}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates one page of the GFG institute practice stats.
+     */
+    static byte[] geeksforgeeksPracticeStats(int size) {
+        Random random = new Random(SEED);
+        StringBuilder json = new StringBuilder("{\"page_size\":").append(size).append(",\"count\":").append(size)
+                .append(",\"next\":null,\"previous\":null,\"results\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"user_id\":").append(i).append(",\"handle\":\"gfg_").append(i)
+                    .append("\",\"coding_score\":").append(rating(random, 1, 3000))
+                    .append(",\"total_problems_solved\":").append(random.nextInt(900))
+                    .append(",\"potd_longest_streak\":").append(random.nextInt(100)).append('}');
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates one page of a HackerRank contest leaderboard.
+     */
+    static byte[] hackerrankLeaderboard(int size) {
+        Random random = new Random(SEED);
+        StringBuilder json = new StringBuilder("{\"models\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"rank\":").append(i + 1).append(",\"hacker\":\"hr_").append(i)
+                    .append("\",\"score\":").append(random.nextInt(1000)).append(".0")
+                    .append(",\"time_taken\":").append(random.nextInt(100000))
+                    .append(",\"avatar\":\"https://hrcdn.net/s3_pub/hr-avatars/default.png\",\"country\":\"India\"}");
+        }
+        return json.append("],\"total\":").append(size).append('}').toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -1,30 +1,27 @@
 package org.cmrit;
 
-import com.google.gson.Gson;
 import com.google.gson.annotations.SerializedName;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.openqa.selenium.By;
-import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
 
 import java.io.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.sql.*;
-import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -48,34 +45,32 @@ import java.util.stream.Collectors;
 
 public class CMRITLeaderboard2026 {
 
-    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS " +
-            "users_data (" +
+    private static final String CREATE_LEADERBOARD_SQL = "CREATE TABLE IF NOT EXISTS leaderboard (" +
             "handle TEXT PRIMARY KEY," +
-            "geeksforgeeks_handle TEXT," +
-            "codeforces_handle TEXT," +
-            "leetcode_handle TEXT," +
-            "codechef_handle TEXT," +
-            "hackerrank_handle TEXT," +
-            "codeforces_url_exists INTEGER," +
-            "geeksforgeeks_url_exists INTEGER," +
-            "leetcode_url_exists INTEGER," +
-            "codechef_url_exists INTEGER," +
-            "hackerrank_url_exists INTEGER)";
-
-    private static final String INSERT_DATA_SQL = "REPLACE INTO users_data " +
-            "(handle, geeksforgeeks_handle, codeforces_handle, leetcode_handle, codechef_handle, hackerrank_handle, " +
-            "geeksforgeeks_url_exists, codeforces_url_exists, leetcode_url_exists, codechef_url_exists, hackerrank_url_exists) " +
-            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-    private static final String CODECHEF_URL = "https://code-chef-rating-api.vercel.app/";
-    private static final String CODEFORCES_URL = "https://codeforces.com/api/user.info?handles=";
+            "codeforces_rating INTEGER," +
+            "codechef_rating INTEGER," +
+            "leetcode_rating INTEGER," +
+            "geeksforgeeks_rating INTEGER," +
+            "geeksforgeeks_practice_rating INTEGER," +
+            "hackerrank_rating INTEGER, " +
+            "percentile REAL)";
+
+    private static final String INSERT_LEADERBOARD_SQL = "REPLACE INTO leaderboard " +
+            "(handle, codeforces_rating, codechef_rating, leetcode_rating, geeksforgeeks_rating, geeksforgeeks_practice_rating, hackerrank_rating, percentile) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_LEADERBOARD_SQL = "SELECT handle, codeforces_rating, codechef_rating, leetcode_rating, " +
+            "geeksforgeeks_rating, geeksforgeeks_practice_rating, hackerrank_rating, percentile FROM leaderboard";
+
+    // Paths of the platform APIs below their PlatformEndpoint
+    private static final String CODECHEF_PATH = "/";
+    private static final String CODEFORCES_PATH = "/api/user.info?handles=";
     // Load Codeforces Key and Secret from env variables
     private static final String API_KEY = System.getenv("CODEFORCES_KEY");
     private static final String API_SECRET = System.getenv("CODEFORCES_SECRET");
-    private static final String LEETCODE_URL = "https://leetcode.com/graphql?query=";
-    private static final String GFG_URL = "https://auth.geeksforgeeks.org/user/";
-    private static final String GFG_WEEKLY_CONTEST_URL = "https://practiceapi.geeksforgeeks.org/api/latest/events/recurring/gfg-weekly-coding-contest/leaderboard/?leaderboard_type=0&page=";
-    private static final String GFG_PRACTICE_URL = "https://practiceapi.geeksforgeeks.org/api/v1/institute/341/students/stats?page_size=100000&page=";
+    private static final String LEETCODE_GRAPHQL_PATH = "/graphql";
+    private static final String GFG_WEEKLY_CONTEST_PATH = "/api/latest/events/recurring/gfg-weekly-coding-contest/leaderboard/?leaderboard_type=0&page=";
+    private static final String GFG_PRACTICE_PATH = "/api/v1/institute/341/students/stats?page_size=100000&page=";
     public static List<String> SEARCH_TOKENS = new ArrayList<>();
 
     static Map<String, User> userMap = new HashMap<>();
@@ -86,8 +81,15 @@ public class CMRITLeaderboard2026 {
      *
      * @param  args    the command-line arguments
      * @throws CustomScrapingException    if a custom scraping exception occurs
+     * @throws InterruptedException       if the main thread is interrupted while scraping
      */
-    public static void main(String[] args) throws CustomScrapingException {
+    public static void main(String[] args) throws CustomScrapingException, InterruptedException {
+
+        // A simulated run brings its own roster and trackers
+        if (args.length > 0 && args[0].equals("simulate")) {
+            simulate(Arrays.asList(args).subList(1, args.length));
+            return;
+        }
 
         // Load data from csv
 
@@ -118,15 +120,17 @@ public class CMRITLeaderboard2026 {
 
         String methodName = args[0];
 
-        String dbName = "cmrit";
-        Connection conn = null;
-        Statement statement = null;
-        ResultSet resultSet = null;
-        ArrayList <User> trueCodechef = new ArrayList<>();
-        ArrayList <User> trueCodeforces = new ArrayList<>();
-        ArrayList <User> trueLeetcode = new ArrayList<>();
-        ArrayList <User> trueGeeksforgeeks = new ArrayList<>();
-        ArrayList <User> trueHackerrank = new ArrayList<>();
+        RosterRepository roster;
+        try {
+            roster = RosterRepository.get();
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+        ArrayList <User> trueCodechef;
+        ArrayList <User> trueCodeforces;
+        ArrayList <User> trueLeetcode;
+        ArrayList <User> trueGeeksforgeeks;
+        ArrayList <User> trueHackerrank;
 
         Map<String, User> gfgHandleToUserMap;
         Map<String, User> hackerrankHandleToUserMap;
@@ -134,129 +138,22 @@ public class CMRITLeaderboard2026 {
         switch (methodName) {
             case "codechef":
                 // Fetch all true codechef handles from the database
-                try {
-                    conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-                    statement = conn.createStatement();
-
-                    String sql = "SELECT handle, codechef_handle FROM users_data WHERE codechef_url_exists = 1";
-                    resultSet = statement.executeQuery(sql);
-
-                    assert resultSet != null;
-
-                    while (resultSet.next()) {
-                        String handle = resultSet.getString("handle");
-                        String codechefHandle = resultSet.getString("codechef_handle");
-                        if (codechefHandle != null) {
-                            trueCodechef.add(new User(handle, "codechef", codechefHandle));
-                        }
-                    }
-
-                } catch (SQLException e) {
-                    System.err.println("Error fetching true Codechef handles: " + e.getMessage());
-                } finally {
-                    try {
-                        if (resultSet != null) resultSet.close();
-                        if (statement != null) statement.close();
-                        if (conn != null) conn.close();
-                    } catch (SQLException e) {
-                        System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
-                    }
-                }
+                trueCodechef = activeUsers(roster, "codechef");
                 scrapeCodechef(trueCodechef);
                 break;
             case "codeforces":
                 // Fetch all true codeforces handles from the database
-                try {
-                    conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-                    statement = conn.createStatement();
-
-                    String sql = "SELECT handle, codeforces_handle FROM users_data WHERE codeforces_url_exists = 1";
-                    resultSet = statement.executeQuery(sql);
-
-                    assert resultSet != null;
-
-                    while (resultSet.next()) {
-                        String handle = resultSet.getString("handle");
-                        String codeforcesHandle = resultSet.getString("codeforces_handle");
-                        if (codeforcesHandle != null) {
-                            trueCodeforces.add(new User(handle, "codeforces", codeforcesHandle));
-                        }
-                    }
-
-                } catch (SQLException e) {
-                    System.err.println("Error fetching true Codeforces handles: " + e.getMessage());
-                } finally {
-                    try {
-                        if (resultSet != null) resultSet.close();
-                        if (statement != null) statement.close();
-                        if (conn != null) conn.close();
-                    } catch (SQLException e) {
-                        System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
-                    }
-                }
+                trueCodeforces = activeUsers(roster, "codeforces");
                 scrapeCodeforces(trueCodeforces);
                 break;
             case "leetcode":
                 // Fetch all true leetcode handles from the database
-                try{
-                    conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-                    statement = conn.createStatement();
-
-                    String sql = "SELECT handle, leetcode_handle FROM users_data WHERE leetcode_url_exists = 1";
-                    resultSet = statement.executeQuery(sql);
-
-                    assert resultSet != null;
-
-                    while (resultSet.next()) {
-                        String handle = resultSet.getString("handle");
-                        String leetcodeHandle = resultSet.getString("leetcode_handle");
-                        if (leetcodeHandle != null) {
-                            trueLeetcode.add(new User(handle, "leetcode", leetcodeHandle));
-                        }
-                    }
-                } catch (SQLException e) {
-                    System.err.println("Error fetching true Leetcode handles: " + e.getMessage());
-                } finally {
-                    try {
-                        if (resultSet != null) resultSet.close();
-                        if (statement != null) statement.close();
-                        if (conn != null) conn.close();
-                    } catch (SQLException e) {
-                        System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
-                    }
-                }
-
+                trueLeetcode = activeUsers(roster, "leetcode");
                 scrapeLeetcode(trueLeetcode);
                 break;
             case "gfg":
                 // Fetch all true gfg handles from the database
-                try{
-                    conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-                    statement = conn.createStatement();
-
-                    String sql = "SELECT handle, geeksforgeeks_handle FROM users_data WHERE geeksforgeeks_url_exists = 1";
-                    resultSet = statement.executeQuery(sql);
-
-                    assert resultSet != null;
-
-                    while (resultSet.next()) {
-                        String handle = resultSet.getString("handle");
-                        String geeksforgeeksHandle = resultSet.getString("geeksforgeeks_handle");
-                        if (geeksforgeeksHandle != null) {
-                            trueGeeksforgeeks.add(new User(handle, "geeksforgeeks", geeksforgeeksHandle));
-                        }
-                    }
-                } catch (SQLException e) {
-                    System.err.println("Error fetching true GeeksforGeeks handles: " + e.getMessage());
-                } finally {
-                    try {
-                        if (resultSet != null) resultSet.close();
-                        if (statement != null) statement.close();
-                        if (conn != null) conn.close();
-                    } catch (SQLException e) {
-                        System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
-                    }
-                }
+                trueGeeksforgeeks = activeUsers(roster, "geeksforgeeks");
 
                 // create a gfgHandle to user map
                 gfgHandleToUserMap = new HashMap<>();
@@ -268,33 +165,7 @@ public class CMRITLeaderboard2026 {
                 break;
             case "gfg_practice":
                 // Fetch all true gfg handles from the database
-                try{
-                    conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-                    statement = conn.createStatement();
-
-                    String sql = "SELECT handle, geeksforgeeks_handle FROM users_data WHERE geeksforgeeks_url_exists = 1";
-                    resultSet = statement.executeQuery(sql);
-
-                    assert resultSet != null;
-
-                    while (resultSet.next()) {
-                        String handle = resultSet.getString("handle");
-                        String geeksforgeeksHandle = resultSet.getString("geeksforgeeks_handle");
-                        if (geeksforgeeksHandle != null) {
-                            trueGeeksforgeeks.add(new User(handle, "geeksforgeeks", geeksforgeeksHandle));
-                        }
-                    }
-                } catch (SQLException e) {
-                    System.err.println("Error fetching true GeeksforGeeks handles: " + e.getMessage());
-                } finally {
-                    try {
-                        if (resultSet != null) resultSet.close();
-                        if (statement != null) statement.close();
-                        if (conn != null) conn.close();
-                    } catch (SQLException e) {
-                        System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
-                    }
-                }
+                trueGeeksforgeeks = activeUsers(roster, "geeksforgeeks");
 
                 // create a gfgHandle to user map
                 gfgHandleToUserMap = new HashMap<>();
@@ -306,33 +177,7 @@ public class CMRITLeaderboard2026 {
                 break;
             case "hackerrank":
                 // Fetch all true hackerrank handles from the database
-                try{
-                    conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-                    statement = conn.createStatement();
-
-                    String sql = "SELECT handle, hackerrank_handle FROM users_data WHERE hackerrank_url_exists = 1";
-                    resultSet = statement.executeQuery(sql);
-
-                    assert resultSet != null;
-
-                    while (resultSet.next()) {
-                        String handle = resultSet.getString("handle");
-                        String hackerrankHandle = resultSet.getString("hackerrank_handle");
-                        if (hackerrankHandle != null) {
-                            trueHackerrank.add(new User(handle, "hackerrank", hackerrankHandle));
-                        }
-                    }
-                } catch (SQLException e) {
-                    System.err.println("Error fetching true Hackerrank handles: " + e.getMessage());
-                } finally {
-                    try {
-                        if (resultSet != null) resultSet.close();
-                        if (statement != null) statement.close();
-                        if (conn != null) conn.close();
-                    } catch (SQLException e) {
-                        System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
-                    }
-                }
+                trueHackerrank = activeUsers(roster, "hackerrank");
 
                 // create a hackerrankHandle to user map
                 hackerrankHandleToUserMap = new HashMap<>();
@@ -343,58 +188,13 @@ public class CMRITLeaderboard2026 {
                 scrapeHackerrank(trueHackerrank, hackerrankHandleToUserMap);
                 break;
             case "all":
-                // Fetch all true handles from the database
-                try {
-                    conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-                    statement = conn.createStatement();
-
-                    String sql = "SELECT handle, " +
-                            "CASE WHEN codeforces_url_exists = 1 THEN codeforces_handle ELSE NULL END AS codeforces_handle, " +
-                            "CASE WHEN leetcode_url_exists = 1 THEN leetcode_handle ELSE NULL END AS leetcode_handle, " +
-                            "CASE WHEN geeksforgeeks_url_exists = 1 THEN geeksforgeeks_handle ELSE NULL END AS geeksforgeeks_handle, " +
-                            "CASE WHEN codechef_url_exists = 1 THEN codechef_handle ELSE NULL END AS codechef_handle, " +
-                            "CASE WHEN hackerrank_url_exists = 1 THEN hackerrank_handle ELSE NULL END AS hackerrank_handle " +
-                            "FROM users_data";
-                    resultSet = statement.executeQuery(sql);
-
-                    assert resultSet != null;
-
-                    while (resultSet.next()) {
-                        String handle = resultSet.getString("handle");
-                        String codeforcesHandle = resultSet.getString("codeforces_handle");
-                        String leetcodeHandle = resultSet.getString("leetcode_handle");
-                        String geeksforgeeksHandle = resultSet.getString("geeksforgeeks_handle");
-                        String codechefHandle = resultSet.getString("codechef_handle");
-                        String hackerrankHandle = resultSet.getString("hackerrank_handle");
-
-                        if (codeforcesHandle != null) {
-                            trueCodeforces.add(new User(handle, "codeforces", codeforcesHandle));
-                        }
-                        if (leetcodeHandle != null) {
-                            trueLeetcode.add(new User(handle, "leetcode", leetcodeHandle));
-                        }
-                        if (geeksforgeeksHandle != null) {
-                            trueGeeksforgeeks.add(new User(handle, "geeksforgeeks", geeksforgeeksHandle));
-                        }
-                        if ((codechefHandle != null)) {
-                            trueCodechef.add(new User(handle, "codechef", codechefHandle));
-                        }
-                        if (hackerrankHandle != null) {
-                            trueHackerrank.add(new User(handle, "hackerrank", hackerrankHandle));
-                        }
-                    }
-
-                } catch (SQLException e) {
-                    System.err.println("Error fetching true handles: " + e.getMessage());
-                } finally {
-                    try {
-                        if (resultSet != null) resultSet.close();
-                        if (statement != null) statement.close();
-                        if (conn != null) conn.close();
-                    } catch (SQLException e) {
-                        System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
-                    }
-                }
+            case "retry_failed":
+                // Fetch all true handles from the database; the roster is read once for every platform
+                trueCodeforces = activeUsers(roster, "codeforces");
+                trueLeetcode = activeUsers(roster, "leetcode");
+                trueGeeksforgeeks = activeUsers(roster, "geeksforgeeks");
+                trueCodechef = activeUsers(roster, "codechef");
+                trueHackerrank = activeUsers(roster, "hackerrank");
 
                 // create a gfgHandle to user map
                 gfgHandleToUserMap = new HashMap<>();
@@ -408,39 +208,69 @@ public class CMRITLeaderboard2026 {
                     hackerrankHandleToUserMap.put(user.getHackerrankHandle().toLowerCase(), user);
                 }
 
-                scrapeCodechef(trueCodechef);
-                scrapeCodeforces(trueCodeforces);
-                scrapeLeetcode(trueLeetcode);
-                scrapeGfg(trueGeeksforgeeks, gfgHandleToUserMap);
-                scrapeHackerrank(trueHackerrank, hackerrankHandleToUserMap);
+                // Run every platform concurrently, each on its own virtual thread
+                Map<String, ScrapeOrchestrator.PlatformTask> tasks = new LinkedHashMap<>();
+                Map<String, User> gfgUsers = gfgHandleToUserMap;
+                Map<String, User> hackerrankUsers = hackerrankHandleToUserMap;
+                tasks.put("codechef", () -> scrapeCodechef(trueCodechef));
+                tasks.put("codeforces", () -> scrapeCodeforces(trueCodeforces));
+                tasks.put("leetcode", () -> scrapeLeetcode(trueLeetcode));
+                tasks.put("geeksforgeeks", () -> scrapeGfg(trueGeeksforgeeks, gfgUsers));
+                tasks.put("hackerrank", () -> scrapeHackerrank(trueHackerrank, hackerrankUsers));
+
+                if (methodName.equals("retry_failed")) {
+                    // Re-run only the platforms whose last run left failed handles; each run resumes from its journal
+                    tasks = new LinkedHashMap<>();
+                    addRetryTask(tasks, "codechef", "codechef_ratings.txt", () -> scrapeCodechef(trueCodechef));
+                    addRetryTask(tasks, "codeforces", "codeforces_ratings.txt", () -> scrapeCodeforces(trueCodeforces));
+                    addRetryTask(tasks, "leetcode", "leetcode_ratings.txt", () -> scrapeLeetcode(trueLeetcode));
+                    addRetryTask(tasks, "gfg_practice", "gfg_practice_ratings.txt", () -> scrapeGfgPractice(trueGeeksforgeeks, gfgUsers));
+                    // GFG weekly contest and Hackerrank ratings come from leaderboard sweeps, not from one request per handle
+                    System.out.println("GFG weekly contest (gfg) and Hackerrank ratings are swept from leaderboards and are not retried; run their options again to redo the sweep.");
+                    if (tasks.isEmpty()) {
+                        System.out.println("No failed handles to retry.");
+                        break;
+                    }
+                }
+
+                List<ScrapeOrchestrator.PlatformResult> results = ScrapeOrchestrator.runAll(tasks);
+                for (ScrapeOrchestrator.PlatformResult result : results) {
+                    if (!result.succeeded) {
+                        throw new CustomScrapingException("Scraping failed for " + result.platform + ": " + result.error);
+                    }
+                }
                 break;
             case "build_leaderboard":
                 // Add all usernames to the userMap which can be fetched from the database
-                try{
-                    conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-                    statement = conn.createStatement();
-
-                    String sql = "SELECT * FROM users_data";
-                    resultSet = statement.executeQuery(sql);
-
-                    assert resultSet != null;
-
-                    while (resultSet.next()) {
-                        String handle = resultSet.getString("handle");
-                        String codeforcesHandle = resultSet.getString("codeforces_handle");
-                        String geeksforgeeksHandle = resultSet.getString("geeksforgeeks_handle");
-                        String leetcodeHandle = resultSet.getString("leetcode_handle");
-                        String codechefHandle = resultSet.getString("codechef_handle");
-                        String hackerrankHandle = resultSet.getString("hackerrank_handle");
-                        User user = new User(handle, codeforcesHandle, geeksforgeeksHandle, leetcodeHandle, codechefHandle, hackerrankHandle);
-                        // Add the user to the userMap
-                        userMap.put(handle, user);
-                    }
+                try {
+                    userMap.putAll(roster.allUsers());
                 } catch (SQLException e) {
                     throw new RuntimeException(e);
                 }
                 buildLeaderboard();
                 break;
+            case "incremental":
+                // Rebuild from the stored leaderboard and only the given rating files (all of them when none are given)
+                try {
+                    userMap.putAll(roster.allUsers());
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+                buildLeaderboardIncrementally(Arrays.asList(args).subList(1, args.length));
+                break;
+            case "serve":
+                // Answer leaderboard queries over HTTP from the stored leaderboard until the process is stopped
+                try {
+                    userMap.putAll(roster.allUsers());
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
+                }
+                serveLeaderboard(args.length > 1 ? Integer.parseInt(args[1]) : LeaderboardServer.DEFAULT_PORT);
+                break;
+            case "history":
+                // Print the rank changes of the last run, or the trajectory of one handle
+                printHistory(args.length > 1 ? args[1] : null);
+                break;
             case "load_data":
                 System.out.println("Completed loading data from CSV to database.");
                 System.exit(0);
@@ -450,556 +280,741 @@ public class CMRITLeaderboard2026 {
         }
     }
 
+    // Platforms of a simulated run, as named on the command line
+    private static final List<String> SIMULATED_PLATFORMS = List.of("codechef", "codeforces", "leetcode", "gfg", "gfg_practice", "hackerrank");
+
     /**
-     * Use all generated rating files to build the leaderboard
-     * Read all the rating files and store the ratings in a map
+     * Runs the scrapers against an in-process PlatformSimulator for a synthetic roster, then builds the leaderboard
+     * if every platform was scraped. The run writes the roster, the rating files, the caches and the leaderboard into
+     * the working directory just like a real run, so it refuses to start in a checkout of this repository.
+     *
+     * @param  options  the roster size (PlatformSimulator.DEFAULT_USERS if absent) followed by the platforms to
+     *                  scrape, all of them if none are given
+     * @throws CustomScrapingException  if a platform fails
+     * @throws InterruptedException     if the thread is interrupted while scraping
      */
-    private static void buildLeaderboard(){
-        // Use all generated rating files to build the leaderboard
-        // Read all the rating files and store the ratings in a map
-
-        try {
-            BufferedReader reader = new BufferedReader(new FileReader("codeforces_ratings.txt"));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] data = line.split(",");
-                String handle = data[0];
-                String codeforcesHandle = data[1];
-                int rating = Integer.parseInt(data[2]);
-                // if the user is not in the map, add the user
-                if (!userMap.containsKey(handle)) {
-                    userMap.put(handle, new User(handle, "codeforces", codeforcesHandle));
-                }
-                User user = userMap.get(handle);
-                user.setCodeforcesRating(rating);
-            }
-        } catch (IOException e) {
-            System.err.println("Error reading Codeforces ratings file: " + e.getMessage());
+    private static void simulate(List<String> options) throws CustomScrapingException, InterruptedException {
+        if (new File("src//main//resources//participant_details.csv").exists()) {
+            System.err.println("simulate writes the roster and the rating files of a run into the working directory, run it from an empty directory.");
+            System.exit(1);
         }
-        System.out.println("Codeforces ratings read successfully.");
-        try {
-            BufferedReader reader = new BufferedReader(new FileReader("gfg_ratings.txt"));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] data = line.split(",");
-                String handle = data[0];
-                String gfgHandle = data[1];
-                int rating = Integer.parseInt(data[2]);
-                // if the user is not in the map, add the user
-                if (!userMap.containsKey(handle)) {
-                    userMap.put(handle, new User(handle, "geeksforgeeks", gfgHandle));
-                }
-                User user = userMap.get(handle);
-                user.setGeeksforgeeksRating(rating);
+        int size = options.isEmpty() ? PlatformSimulator.DEFAULT_USERS : Integer.parseInt(options.get(0));
+        List<String> platforms = options.size() > 1 ? options.subList(1, options.size()) : SIMULATED_PLATFORMS;
+        for (String platform : platforms) {
+            if (!SIMULATED_PLATFORMS.contains(platform)) {
+                System.err.println("Unknown platform " + platform + ", expected one of " + SIMULATED_PLATFORMS);
+                System.exit(1);
             }
-        } catch (IOException e) {
-            System.err.println("Error reading GFG ratings file: " + e.getMessage());
         }
-        System.out.println("GFG ratings read successfully.");
+
+        PlatformSimulator simulator;
         try {
-            BufferedReader reader = new BufferedReader(new FileReader("gfg_practice_ratings.txt"));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] data = line.split(",");
-                String handle = data[0];
-                String gfgHandle = data[1];
-                int rating = Integer.parseInt(data[2]);
-                // if the user is not in the map, add the
-                if (!userMap.containsKey(handle)) {
-                    userMap.put(handle, new User(handle, "geeksforgeeks", gfgHandle));
-                }
-                User user = userMap.get(handle);
-                user.setgeeksforgeeksPracticeRating(rating);
-            }
+            simulator = PlatformSimulator.start(size, PlatformSimulator.Options.fromEnvironment());
         } catch (IOException e) {
-            System.err.println("Error reading GFG Practice ratings file: " + e.getMessage());
+            throw new RuntimeException("Error starting the platform simulator: " + e.getMessage(), e);
         }
-        System.out.println("GFG Practice ratings read successfully.");
-        try {
-            BufferedReader reader = new BufferedReader(new FileReader("leetcode_ratings.txt"));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] data = line.split(",");
-                String handle = data[0];
-                String leetcodeHandle = data[1];
-                int rating = Integer.parseInt(data[2]);
-                // if the user is not in the map, add the user
-                if (!userMap.containsKey(handle)) {
-                    userMap.put(handle, new User(handle, "leetcode", leetcodeHandle));
+        try (simulator) {
+            RosterRepository roster;
+            try {
+                Path participants = Files.createTempFile("participants", ".csv");
+                simulator.writeParticipantCsv(participants);
+                loadCSVtoSQL(participants.toString());
+                Files.delete(participants);
+                roster = RosterRepository.get();
+            } catch (IOException | SQLException e) {
+                throw new RuntimeException(e);
+            }
+            simulator.redirectEndpoints();
+            SEARCH_TOKENS.addAll(simulator.trackerNames());
+            System.out.println("Simulating " + size + " participants on " + platforms);
+
+            Map<String, ScrapeOrchestrator.PlatformTask> tasks = new LinkedHashMap<>();
+            for (String platform : platforms) {
+                switch (platform) {
+                    case "codechef" -> {
+                        ArrayList<User> users = activeUsers(roster, "codechef");
+                        tasks.put(platform, () -> scrapeCodechef(users));
+                    }
+                    case "codeforces" -> {
+                        ArrayList<User> users = activeUsers(roster, "codeforces");
+                        tasks.put(platform, () -> scrapeCodeforces(users));
+                    }
+                    case "leetcode" -> {
+                        ArrayList<User> users = activeUsers(roster, "leetcode");
+                        tasks.put(platform, () -> scrapeLeetcode(users));
+                    }
+                    case "gfg", "gfg_practice" -> {
+                        ArrayList<User> users = activeUsers(roster, "geeksforgeeks");
+                        Map<String, User> usersByHandle = new HashMap<>();
+                        for (User user : users) {
+                            usersByHandle.put(user.getGeeksforgeeksHandle().toLowerCase(), user);
+                        }
+                        tasks.put(platform, platform.equals("gfg")
+                                ? () -> scrapeGfg(users, usersByHandle)
+                                : () -> scrapeGfgPractice(users, usersByHandle));
+                    }
+                    case "hackerrank" -> {
+                        ArrayList<User> users = activeUsers(roster, "hackerrank");
+                        Map<String, User> usersByHandle = new HashMap<>();
+                        for (User user : users) {
+                            usersByHandle.put(user.getHackerrankHandle().toLowerCase(), user);
+                        }
+                        tasks.put(platform, () -> scrapeHackerrank(users, usersByHandle));
+                    }
                 }
-                User user = userMap.get(handle);
-                user.setLeetcodeRating(rating);
             }
-        } catch (IOException e) {
-            System.err.println("Error reading Leetcode ratings file: " + e.getMessage());
-        }
-        System.out.println("Leetcode ratings read successfully.");
-        try {
-            BufferedReader reader = new BufferedReader(new FileReader("codechef_ratings.txt"));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] data = line.split(",");
-                String handle = data[0];
-                String codechefHandle = data[1];
-                int rating = Integer.parseInt(data[2]);
-                // if the user is not in the map, add the user
-                if (!userMap.containsKey(handle)) {
-                    userMap.put(handle, new User(handle, "codechef", codechefHandle));
+
+            long started = System.nanoTime();
+            List<ScrapeOrchestrator.PlatformResult> results = ScrapeOrchestrator.runAll(tasks);
+            long scraped = System.nanoTime();
+            simulator.printReport();
+            for (ScrapeOrchestrator.PlatformResult result : results) {
+                if (!result.succeeded) {
+                    throw new CustomScrapingException("Scraping failed for " + result.platform + ": " + result.error);
                 }
-                User user = userMap.get(handle);
-                user.setCodechefRating(rating);
             }
-        } catch (IOException e) {
-            System.err.println("Error reading Codechef ratings file: " + e.getMessage());
-        }
-        System.out.println("Codechef ratings read successfully.");
-        try {
-            BufferedReader reader = new BufferedReader(new FileReader("hackerrank_ratings.txt"));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] data = line.split(",");
-                String handle = data[0];
-                String hackerrankHandle = data[1];
-                int rating = Integer.parseInt(data[2]);
-                // if the user is not in the map, add the user
-                if (!userMap.containsKey(handle)) {
-                    userMap.put(handle, new User(handle, "hackerrank", hackerrankHandle));
+            System.out.println("Scraped " + size + " simulated participants in " + (scraped - started) / 1_000_000 + " ms");
+
+            if (platforms.containsAll(SIMULATED_PLATFORMS)) {
+                try {
+                    userMap.putAll(roster.allUsers());
+                } catch (SQLException e) {
+                    throw new RuntimeException(e);
                 }
-                User user = userMap.get(handle);
-                user.setHackerrankRating(rating);
+                buildLeaderboard();
+                System.out.println("Built the leaderboard in " + (System.nanoTime() - scraped) / 1_000_000 + " ms");
             }
-        } catch (IOException e) {
-            System.err.println("Error reading Hackerrank ratings file: " + e.getMessage());
         }
-        System.out.println("Hackerrank ratings read successfully.");
-
-        // Upload userMap as a leaderboard to the database
-        uploadLeaderboardToDatabase(userMap);
-
-        // use sql to find max of each rating
-        // use sql to find percentile of each user
+    }
 
-        String dbName = "leaderboard";
-        Connection conn = null;
-        Statement statement = null;
-        ResultSet resultSet = null;
-
-        int maxCodeforcesRating = 0;
-        int maxGeeksforgeeksRating = 0;
-        int maxGeeksforgeeksPracticeRating = 0;
-        int maxLeetcodeRating = 0;
-        int maxCodechefRating = 0;
-        int maxHackerrankRating = 0;
-
-        String sql = "SELECT MAX(codeforces_rating) AS max_codeforces_rating, MAX(geeksforgeeks_rating) AS max_geeksforgeeks_rating, MAX(geeksforgeeks_practice_rating) AS max_geeksforgeeks_practice_rating, MAX(leetcode_rating) AS max_leetcode_rating, MAX(codechef_rating) AS max_codechef_rating, MAX(hackerrank_rating) AS max_hackerrank_rating FROM leaderboard";
+    /**
+     * Fetches the users whose handle on a platform exists. A roster that cannot be read yields no users, so the
+     * platform scrapes nothing.
+     *
+     * @param  roster    the roster repository
+     * @param  platform  the platform, as named by RosterRepository.PLATFORMS
+     * @return           the users of the platform
+     */
+    private static ArrayList<User> activeUsers(RosterRepository roster, String platform) {
         try {
-            conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-            statement = conn.createStatement();
-            resultSet = statement.executeQuery(sql);
-            assert resultSet != null;
-            maxCodeforcesRating = resultSet.getInt("max_codeforces_rating");
-            maxGeeksforgeeksRating = resultSet.getInt("max_geeksforgeeks_rating");
-            maxGeeksforgeeksPracticeRating = resultSet.getInt("max_geeksforgeeks_practice_rating");
-            maxLeetcodeRating = resultSet.getInt("max_leetcode_rating");
-            maxCodechefRating = resultSet.getInt("max_codechef_rating");
-            maxHackerrankRating = resultSet.getInt("max_hackerrank_rating");
+            return roster.activeUsers(platform);
         } catch (SQLException e) {
-            System.err.println("Error fetching max ratings: " + e.getMessage());
-        } finally {
-            try {
-                if (resultSet != null) resultSet.close();
-                if (statement != null) statement.close();
-                if (conn != null) conn.close();
-            } catch (SQLException e) {
-                System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
-            }
+            System.err.println("Error fetching true " + platform + " handles: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Adds a platform to the retry_failed run if its last run left handles that failed and are still missing from
+     * its rating file.
+     *
+     * @param  tasks       the tasks of the retry run
+     * @param  platform    the platform name, as used by its journal
+     * @param  ratingFile  the rating file of the platform
+     * @param  task        the scraper of the platform
+     */
+    private static void addRetryTask(Map<String, ScrapeOrchestrator.PlatformTask> tasks, String platform, String ratingFile, ScrapeOrchestrator.PlatformTask task) {
+        int failed = ScrapeJournal.prepareRetry(platform, ratingFile);
+        if (failed > 0) {
+            System.out.println("Retrying " + failed + " failed " + platform + " handles.");
+            tasks.put(platform, task);
         }
+    }
+
+    /**
+     * Use all generated rating files to build the leaderboard
+     * Read all the rating files and store the ratings in a map
+     */
+    private static void buildLeaderboard() throws InterruptedException {
+        // Use all generated rating files to build the leaderboard
+        // Read all the rating files and store the ratings in a map
+        RatingFileLoader.load(userMap);
+        defaultPracticeRatings();
+
+        // Compute the percentiles and the order of every scoring profile in memory, then store the result once
+        List<ScoringEngine.Ranking> rankings = ScoringEngine.rankAll(userMap.values(), ScoringProfile.all());
+        List<User> leaderboard = rankings.get(0).users;
+        uploadLeaderboardToDatabase(leaderboard);
+        recordHistory(leaderboard);
+
+        // Write the spreadsheet and the paged JSON for the web page
+        LeaderboardExporter.export(leaderboard);
+        LeaderboardJsonExporter.export(leaderboard);
+        exportProfileRankings(rankings.subList(1, rankings.size()));
+    }
 
-        // update the userMap with percentile
+    // Users without a practice rating are stored with 0
+    private static void defaultPracticeRatings() {
         for (User user : userMap.values()) {
-            double cf = (double) user.getCodeforcesRating() / maxCodeforcesRating * 100;
-            double gfgs = (double) user.getGeeksforgeeksRating() / maxGeeksforgeeksRating * 100;
             if (user.getgeeksforgeeksPracticeRating() == null) {
                 user.setgeeksforgeeksPracticeRating(0);
             }
-            double gfgp = (double) user.getgeeksforgeeksPracticeRating() / maxGeeksforgeeksPracticeRating * 100;
-            double lc = (double) user.getLeetcodeRating() / maxLeetcodeRating * 100;
-            double cc = (double) user.getCodechefRating() / maxCodechefRating * 100;
-            double hr = (double) user.getHackerrankRating() / maxHackerrankRating * 100;
-            double percentile = ( cf * 0.3 + gfgs*0.3  + gfgp*0.1 + lc*0.1 + cc*0.1 + hr*0.1 );
+        }
+    }
 
-            user.setPercentile(percentile);
+    /**
+     * Writes the ranking of every additional scoring profile to Leaderboards/profiles/&lt;profile&gt;.csv.
+     *
+     * @param  rankings  the rankings of the profiles other than the default one
+     */
+    private static void exportProfileRankings(List<ScoringEngine.Ranking> rankings) {
+        File directory = new File("Leaderboards/profiles");
+        if (!rankings.isEmpty() && !directory.exists() && !directory.mkdirs()) {
+            System.err.println("Error creating directory: " + directory);
+            return;
+        }
+        for (ScoringEngine.Ranking ranking : rankings) {
+            File file = new File(directory, ranking.profile.name + ".csv");
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(file, StandardCharsets.UTF_8))) {
+                writer.write("Rank,Handle,Percentile\n");
+                for (int i = 0; i < ranking.users.size(); i++) {
+                    // Two decimals, like the spreadsheet; BigDecimal keeps the text independent of the locale
+                    String percentile = BigDecimal.valueOf(ranking.percentiles[i]).setScale(2, RoundingMode.HALF_EVEN).toPlainString();
+                    writer.write((i + 1) + "," + ranking.users.get(i).getHandle() + "," + percentile + "\n");
+                }
+            } catch (IOException e) {
+                System.err.println("Error writing " + file + ": " + e.getMessage());
+            }
+        }
+        if (!rankings.isEmpty()) {
+            System.out.println("Scoring profile rankings written: " + rankings.stream().map(ranking -> ranking.profile.name).collect(Collectors.joining(", ")));
         }
+    }
 
-        // Push the updated userMap to the database
-        uploadLeaderboardToDatabase(userMap);
+    /**
+     * Uploads the leaderboard to the database.
+     *
+     * @param  leaderboard  the ranked users
+     */
+    static void uploadLeaderboardToDatabase(List<User> leaderboard) {
+        String dbName = "leaderboard";
 
-        // Fetch the leaderboard from the database with decreasing percentile
-        sql = "SELECT * FROM leaderboard ORDER BY percentile DESC";
         try {
-            conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-            statement = conn.createStatement();
-            resultSet = statement.executeQuery(sql);
-            assert resultSet != null;
-
-            // Create a new workbook
-            XSSFSheet sheet;
-            XSSFWorkbook workbook = new XSSFWorkbook();
-            sheet = workbook.createSheet("Leaderboard");
-            // Create a header row with the column names
-            Row headerRow = sheet.createRow(0);
-
-            // Create bold font with size 18 for column headers
-            Font boldFont = workbook.createFont();
-            boldFont.setBold(true);
-            boldFont.setFontHeightInPoints((short) 20);
-
-            Font boldFont2 = workbook.createFont();
-            boldFont2.setBold(true);
-            boldFont2.setFontHeightInPoints((short) 14);
-
-            // Create bold centered cell style with 14 font size for normal cells
-            CellStyle boldCenteredCellStyle = workbook.createCellStyle();
-            boldCenteredCellStyle.setAlignment(HorizontalAlignment.CENTER);
-            boldCenteredCellStyle.setFont(boldFont);
-            boldCenteredCellStyle.setFillForegroundColor(IndexedColors.LIGHT_TURQUOISE1.getIndex());
-            boldCenteredCellStyle.setBorderBottom(BorderStyle.THICK);
-            boldCenteredCellStyle.setBorderTop(BorderStyle.THICK);
-            boldCenteredCellStyle.setBorderLeft(BorderStyle.THICK);
-            boldCenteredCellStyle.setBorderRight(BorderStyle.THICK);
-            boldCenteredCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-            // Create bold cell style with 14 font size for normal cells
-            CellStyle boldCellStyle = workbook.createCellStyle();
-            boldCellStyle.setAlignment(HorizontalAlignment.CENTER);
-            boldCellStyle.setFont(boldFont2);
-            boldCellStyle.setFillForegroundColor(IndexedColors.TURQUOISE.getIndex());
-            boldCellStyle.setBorderBottom(BorderStyle.THICK);
-            boldCellStyle.setBorderTop(BorderStyle.THICK);
-            boldCellStyle.setBorderLeft(BorderStyle.THICK);
-            boldCellStyle.setBorderRight(BorderStyle.THICK);
-            boldCellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-
-            String[] columns = {"Rank", "Handle", "Codeforces_Handle", "Codeforces_Rating", "Geeksforgeeks_Handle", "Geeksforgeeks_Rating", "Geeksforgeeks_Practice_Rating", "Leetcode_Handle", "Leetcode_Rating", "Codechef_Handle", "Codechef_Rating", "Hackerrank_Handle", "Hackerrank_Rating", "Percentile"};
-            for (int i = 0; i < columns.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellStyle(boldCenteredCellStyle);
-                cell.setCellValue(columns[i]);
-            }
+            SqliteDatabase db = SqliteDatabase.shared(dbName);
+            // Recreate the table and fill it in one transaction, so readers never see it half written
+            db.transaction(tx -> {
+                tx.execute("DROP TABLE IF EXISTS leaderboard");
+                tx.execute(CREATE_LEADERBOARD_SQL);
+                tx.writeBatched(INSERT_LEADERBOARD_SQL, leaderboard, CMRITLeaderboard2026::bindLeaderboardRow);
+            });
+        } catch (SQLException e) {
+            System.err.println("Error uploading leaderboard to database: " + e.getMessage());
+        }
+    }
 
-            int rank = 1;
-            while (resultSet.next()) {
-                String handle = resultSet.getString("handle");
-                int codeforcesRating = resultSet.getInt("codeforces_rating");
-                int codechefRating = resultSet.getInt("codechef_rating");
-                int leetcodeRating = resultSet.getInt("leetcode_rating");
-                int geeksforgeeksRating = resultSet.getInt("geeksforgeeks_rating");
-                int geeksforgeeksPracticeRating = resultSet.getInt("geeksforgeeks_practice_rating");
-                int hackerrankRating = resultSet.getInt("hackerrank_rating");
-                DecimalFormat df = new DecimalFormat("#.##");
-                double percentileD = Double.parseDouble(df.format(resultSet.getDouble("percentile")));
-                // convert to string and add % at the end
-                String percentile = String.valueOf(percentileD);
-                String codeforcesHandle = userMap.get(handle).getCodeforcesHandle();
-                String geeksforgeeksHandle = userMap.get(handle).getGeeksforgeeksHandle();
-                String leetcodeHandle = userMap.get(handle).getLeetcodeHandle();
-                String codechefHandle = userMap.get(handle).getCodechefHandle();
-                String hackerrankHandle = userMap.get(handle).getHackerrankHandle();
-                System.out.println(rank + ". " + handle + " - " + codeforcesRating + " - " + geeksforgeeksRating + " - " + geeksforgeeksPracticeRating + " - " + leetcodeRating + " - " + codechefRating + " - " + hackerrankRating + " - " + percentile);
-
-                // Append the data to the sheet
-                Row row = sheet.createRow(rank);
-                // add all the data to the row at once
-                Object[] data = {rank, handle, codeforcesHandle, codeforcesRating, geeksforgeeksHandle, geeksforgeeksRating, geeksforgeeksPracticeRating, leetcodeHandle, leetcodeRating, codechefHandle, codechefRating, hackerrankHandle, hackerrankRating, percentile};
-                for (int i = 0; i < data.length; i++) {
-                    Cell cell = row.createCell(i);
-                    cell.setCellStyle(boldCellStyle);
-                    if (data[i] instanceof String) {
-                        cell.setCellValue((String) data[i]);
-                    } else if (data[i] instanceof Integer) {
-                        cell.setCellValue((Integer) data[i]);
-                    } else if (data[i] instanceof Double) {
-                        cell.setCellValue((Double) data[i]);
-                    }
-                }
-                rank++;
-            }
+    private static void bindLeaderboardRow(PreparedStatement preparedStatement, User user) throws SQLException {
+        preparedStatement.setString(1, user.getHandle());
+        preparedStatement.setInt(2, user.getCodeforcesRating());
+        preparedStatement.setInt(3, user.getCodechefRating());
+        preparedStatement.setInt(4, user.getLeetcodeRating());
+        preparedStatement.setInt(5, user.getGeeksforgeeksRating());
+        if (user.getgeeksforgeeksPracticeRating() == null) {
+            preparedStatement.setInt(6, 0);
+        } else {
+            preparedStatement.setInt(6, user.getgeeksforgeeksPracticeRating());
+        }
+        preparedStatement.setInt(7, user.getHackerrankRating());
+        if (user.getPercentile() == null) {
+            preparedStatement.setNull(8, Types.REAL);
+        } else {
+            preparedStatement.setDouble(8, user.getPercentile());
+        }
+    }
 
-            // Set all cells to auto-size
-            for (int i = 0; i < columns.length; i++) {
-                sheet.autoSizeColumn(i);
+    /**
+     * Rebuilds the leaderboard from the one stored by the previous build, reading only the given rating files. Each
+     * file replaces the ratings of its platform. Scoring, the history and the exports cover the whole leaderboard as
+     * in a full build; what this saves is reading the rating files of the other platforms and rewriting the whole
+     * leaderboard table, since only the rows whose ratings or percentile changed are written back. The rankings of the
+     * other scoring profiles are written again too. Falls back to a full build when there is no stored leaderboard.
+     *
+     * @param  options  the scraper options of the rating files to read, e.g. "codeforces"; all files when empty
+     * @throws InterruptedException  if the thread is interrupted while the files are read
+     */
+    private static void buildLeaderboardIncrementally(List<String> options) throws InterruptedException {
+        List<RatingFileLoader.RatingFile> files = new ArrayList<>();
+        try {
+            for (String option : options) {
+                files.add(RatingFileLoader.RatingFile.forOption(option));
             }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+        if (files.isEmpty()) {
+            files.addAll(Arrays.asList(RatingFileLoader.RatingFile.values()));
+        }
 
+        Set<String> stored = loadLeaderboardFromDatabase();
+        if (stored.isEmpty()) {
+            System.out.println("No stored leaderboard, building it from scratch.");
+            buildLeaderboard();
+            return;
+        }
 
-            // Check if the directory exists, if not create it
-            File directory = new File("Leaderboards");
-            if (!directory.exists()) {
-                boolean dirCreated = directory.mkdir();
-                if (!dirCreated) {
-                    System.err.println("Error creating directory: Leaderboards");
-                }
+        // Participants added to the roster since the previous build have no stored row yet
+        Set<User> changed = new HashSet<>();
+        Map<User, Double> previous = new HashMap<>();
+        for (User user : userMap.values()) {
+            if (stored.contains(user.getHandle())) {
+                previous.put(user, user.getPercentile());
+            } else {
+                changed.add(user);
+            }
+        }
+        for (RatingFileLoader.RatingFile file : files) {
+            List<User> reloaded = RatingFileLoader.reload(userMap, file);
+            if (reloaded != null) {
+                changed.addAll(reloaded);
             }
+        }
 
-            // Write the workbook to a file
-            try (FileOutputStream fileOut = new FileOutputStream("Leaderboards//CurrentCMRITLeaderboard2026.xlsx")) {
-                workbook.write(fileOut);
-            } catch (IOException e) {
-                System.err.println("Error writing leaderboard to file: " + e.getMessage());
+        // Participants added to the roster without a practice rating file among the files read still have none
+        defaultPracticeRatings();
+
+        // A changed maximum moves the percentile of everyone with a rating on that platform, so score every user
+        List<ScoringEngine.Ranking> rankings = ScoringEngine.rankAll(userMap.values(), ScoringProfile.all());
+        List<User> leaderboard = rankings.get(0).users;
+        for (User user : leaderboard) {
+            if (previous.containsKey(user) && !Objects.equals(previous.get(user), user.getPercentile())) {
+                changed.add(user);
             }
+        }
+        System.out.println("Incremental build: " + changed.size() + " of " + leaderboard.size() + " users changed.");
+        if (changed.isEmpty()) {
+            System.out.println("Leaderboard unchanged.");
+            return;
+        }
+
+        try {
+            SqliteDatabase.shared("leaderboard").writeBatched(INSERT_LEADERBOARD_SQL, changed, CMRITLeaderboard2026::bindLeaderboardRow);
         } catch (SQLException e) {
-            System.err.println("Error fetching leaderboard: " + e.getMessage());
-        } finally {
-            try {
-                if (resultSet != null) resultSet.close();
-                if (statement != null) statement.close();
-                if (conn != null) conn.close();
-            } catch (SQLException e) {
-                System.err.println("Error closing resultSet, statement, or connection: " + e.getMessage());
+            System.err.println("Error updating leaderboard in database: " + e.getMessage());
+        }
+        recordHistory(leaderboard);
+
+        LeaderboardExporter.export(leaderboard);
+        LeaderboardJsonExporter.export(leaderboard);
+        exportProfileRankings(rankings.subList(1, rankings.size()));
+    }
+
+    /**
+     * Serves the leaderboard stored by the last build over HTTP on localhost.
+     *
+     * @param  port  the port to listen on
+     */
+    private static void serveLeaderboard(int port) {
+        Set<String> stored = loadLeaderboardFromDatabase();
+        if (stored.isEmpty()) {
+            System.err.println("No stored leaderboard to serve, run build_leaderboard first.");
+            System.exit(1);
+        }
+        List<User> leaderboard = new ArrayList<>();
+        for (String handle : stored) {
+            leaderboard.add(userMap.get(handle));
+        }
+        leaderboard.sort(ScoringEngine.ORDER);
+        try {
+            // The server threads keep the process running after main returns
+            LeaderboardServer.start(leaderboard, port);
+        } catch (IOException e) {
+            System.err.println("Error starting leaderboard server: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Sets the ratings and percentiles stored by the previous build on the users of the userMap, adding the users it
+     * does not have.
+     *
+     * @return  the handles of the stored leaderboard; empty if there is none
+     */
+    private static Set<String> loadLeaderboardFromDatabase() {
+        Set<String> handles = new HashSet<>();
+        try {
+            SqliteDatabase db = SqliteDatabase.shared("leaderboard");
+            db.execute(CREATE_LEADERBOARD_SQL);
+            try (ResultSet resultSet = db.prepare(SELECT_LEADERBOARD_SQL).executeQuery()) {
+                while (resultSet.next()) {
+                    String handle = resultSet.getString("handle");
+                    User user = userMap.get(handle);
+                    if (user == null) {
+                        user = new User(handle, null, null, null, null, null);
+                        userMap.put(handle, user);
+                    }
+                    user.setCodeforcesRating(resultSet.getInt("codeforces_rating"));
+                    user.setCodechefRating(resultSet.getInt("codechef_rating"));
+                    user.setLeetcodeRating(resultSet.getInt("leetcode_rating"));
+                    user.setGeeksforgeeksRating(resultSet.getInt("geeksforgeeks_rating"));
+                    user.setgeeksforgeeksPracticeRating(resultSet.getInt("geeksforgeeks_practice_rating"));
+                    user.setHackerrankRating(resultSet.getInt("hackerrank_rating"));
+                    user.setPercentile(resultSet.getDouble("percentile"));
+                    handles.add(handle);
+                }
             }
+        } catch (SQLException e) {
+            System.err.println("Error reading leaderboard from database: " + e.getMessage());
+            handles.clear();
         }
+        return handles;
     }
 
     /**
-     * Uploads the leaderboard to the database.
+     * Records the run in the leaderboard history.
      *
-     * @param  userMap   a map of user handles to user objects
+     * @param  leaderboard  the ranked users
      */
-    private static void uploadLeaderboardToDatabase(Map<String, User> userMap) {
-        String dbName = "leaderboard";
-        Connection conn = null;
-        PreparedStatement preparedStatement = null;
+    private static void recordHistory(List<User> leaderboard) {
+        try {
+            HistoryStore.open().recordRun(leaderboard);
+        } catch (SQLException e) {
+            System.err.println("Error recording leaderboard history: " + e.getMessage());
+        }
+    }
 
+    /**
+     * Prints the rank changes of the last run, biggest movers first, or the trajectory of one handle.
+     *
+     * @param  handle  the student handle, or null for the rank changes
+     */
+    private static void printHistory(String handle) {
         try {
-            conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-
-            // if the table exists, drop it
-            String sql = "DROP TABLE IF EXISTS leaderboard";
-            preparedStatement = conn.prepareStatement(sql);
-            preparedStatement.executeUpdate();
-
-            sql = "CREATE TABLE IF NOT EXISTS leaderboard (" +
-                    "handle TEXT PRIMARY KEY," +
-                    "codeforces_rating INTEGER," +
-                    "codechef_rating INTEGER," +
-                    "leetcode_rating INTEGER," +
-                    "geeksforgeeks_rating INTEGER," +
-                    "geeksforgeeks_practice_rating INTEGER," +
-                    "hackerrank_rating INTEGER, " +
-                    "percentile REAL)";
-
-            preparedStatement = conn.prepareStatement(sql);
-            preparedStatement.executeUpdate();
-
-            sql = "REPLACE INTO leaderboard " +
-                    "(handle, codeforces_rating, codechef_rating, leetcode_rating, geeksforgeeks_rating, geeksforgeeks_practice_rating, hackerrank_rating, percentile) " +
-                    "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-
-            preparedStatement = conn.prepareStatement(sql);
-
-            for (User user : userMap.values()) {
-                preparedStatement.setString(1, user.getHandle());
-                preparedStatement.setInt(2, user.getCodeforcesRating());
-                preparedStatement.setInt(3, user.getCodechefRating());
-                preparedStatement.setInt(4, user.getLeetcodeRating());
-                preparedStatement.setInt(5, user.getGeeksforgeeksRating());
-                if (user.getgeeksforgeeksPracticeRating() == null) {
-                    preparedStatement.setInt(6, 0);
-                } else {
-                    preparedStatement.setInt(6, user.getgeeksforgeeksPracticeRating());
+            HistoryStore history = HistoryStore.open();
+            if (handle == null) {
+                List<HistoryStore.RankChange> changes = history.rankChanges();
+                changes.sort(Comparator.comparingInt((HistoryStore.RankChange change) -> -Math.abs(change.movement()))
+                        .thenComparingInt(change -> change.rank == 0 ? Integer.MAX_VALUE : change.rank));
+                for (HistoryStore.RankChange change : changes) {
+                    if (change.previousRank == 0) {
+                        System.out.println(change.handle + ": " + change.rank + " (new)");
+                    } else if (change.rank == 0) {
+                        System.out.println(change.handle + ": dropped (was " + change.previousRank + ")");
+                    } else {
+                        int movement = change.movement();
+                        System.out.println(change.handle + ": " + change.rank + " (" + (movement > 0 ? "+" : "") + movement + ")");
+                    }
                 }
-                preparedStatement.setInt(7, user.getHackerrankRating());
-                if (user.getPercentile() == null) {
-                    preparedStatement.setNull(8, Types.REAL);
-                } else {
-                    preparedStatement.setDouble(8, user.getPercentile());
+            } else {
+                for (HistoryStore.Point point : history.trajectory(handle)) {
+                    System.out.println(point.series + " run " + point.runId + " (" + Instant.ofEpochMilli(point.builtAt) + "): " + point.value);
                 }
-                preparedStatement.executeUpdate();
             }
         } catch (SQLException e) {
-            System.err.println("Error uploading leaderboard to database: " + e.getMessage());
-        } finally {
-            try {
-                if (preparedStatement != null) preparedStatement.close();
-                if (conn != null) conn.close();
-            } catch (SQLException e) {
-                System.err.println("Error closing preparedStatement or connection: " + e.getMessage());
-            }
+            System.err.println("Error reading leaderboard history: " + e.getMessage());
         }
     }
 
-        private static void scrapeCodechef(ArrayList <User> resultSet) {
+    // Maximum number of Codechef requests in flight at once
+    private static final int CODECHEF_MAX_IN_FLIGHT = 4;
+    // Attempts per handle when the Codechef API signals overload
+    private static final int CODECHEF_MAX_ATTEMPTS = 5;
+
+    /**
+     * Scrapes Codechef ratings for a list of users and writes the results to a text file. Handles are fetched
+     * concurrently with at most CODECHEF_MAX_IN_FLIGHT requests in flight; a handle that cannot be fetched is
+     * recorded as failed without stopping the rest of the batch.
+     *
+     * @param  resultSet  list of User objects to scrape ratings for
+     * @throws InterruptedException  if the thread is interrupted while scraping
+     */
+    private static void scrapeCodechef(ArrayList <User> resultSet) throws InterruptedException {
         // Scraper logic for Codechef
 
         System.out.println("Codechef scraping in progress...");
 
-        String url;
-        URI websiteUrl;
-        URLConnection connection;
-        HttpURLConnection o;
-        InputStream inputStream;
-
-        // create or clear the file for writing
-        File file = new File("codechef_ratings.txt");
-        try {
-            FileWriter writer = new FileWriter(file);
-            writer.write(""); // Clearing the file
-            writer.close();
-        } catch (IOException e) {
-            System.err.println("Error clearing file: " + e.getMessage());
-        }
+        // create or clear the file for writing, unless an unfinished run is resumed
+        ScrapeJournal journal = ScrapeJournal.open("codechef", "codechef_ratings.txt");
+        RatingSink sink = RatingSink.open("codechef_ratings.txt", journal.isResuming());
 
         int size = resultSet.size();
-        int i = 1;
-
-        for (User user : resultSet) {
-            String handle = user.getHandle();
-            String codechefHandle = user.getCodechefHandle();
+        ScrapeOrchestrator.ScrapeProgress progress = ScrapeOrchestrator.progress("codechef", size);
+        List<String> failedHandles = Collections.synchronizedList(new ArrayList<>());
+        FetchCache cache = FetchCache.open("codechef");
 
-            // remove any spaces from the handle
-            codechefHandle = codechefHandle.replace(" ", "");
-
-            System.out.println("(" + i + "/" + size + ") Scraping Codechef for " + handle + " (Codechef Handle: " + codechefHandle + ")");
-            i++;
-
-            try {
-                url = CODECHEF_URL + codechefHandle;
-                websiteUrl = new URI(url);
-                connection = websiteUrl.toURL().openConnection();
-                o = (HttpURLConnection) connection;
-                o.setRequestMethod("GET");
-                if(o.getResponseCode() == 500 ) { Thread.sleep(30000); continue; }
-                else if (o.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND || o.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST) {
-                    throw new RuntimeException();
+        try {
+            ScrapeOrchestrator.forEachConcurrently(resultSet, CODECHEF_MAX_IN_FLIGHT, user -> {
+                String handle = user.getHandle();
+                if (journal.isCompleted(handle)) {
+                    progress.advance();
+                    return;
                 }
-                inputStream = o.getInputStream();
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-                    StringBuilder jsonContent = new StringBuilder();
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        jsonContent.append(line);
-                    }
-                    JSONObject jsonObject = new JSONObject(jsonContent.toString());
-                    int codechefRating = 0;
-                    try {
-                        Thread.sleep(30000);
-                        try {
-                        codechefRating = jsonObject.getInt("currentRating"); 
-                        } catch(Exception e) {
-                            //Thread.sleep(30000);
-                            codechefRating = jsonObject.getInt("currentRating"); 
-                        }
 
-                        // update the user object with the codechef rating
-                        user.setCodechefRating(codechefRating);
+                // remove any spaces from the handle
+                String codechefHandle = user.getCodechefHandle().replace(" ", "");
 
-                        System.out.println("Codechef rating for " + codechefHandle + " is: " + codechefRating);
-                        // Write to a text file
-                        FileWriter writer = new FileWriter("codechef_ratings.txt", true);
-                        writer.write(handle + "," + codechefHandle + "," + codechefRating + "\n");
-                        writer.close();
-                    } catch (JSONException e) {
-                        System.err.println("Error fetching codechef rating for " + codechefHandle + ": " + e.getMessage());
-                    }
-                } catch (JSONException e) {
-                    throw new RuntimeException(e);
-                }
+                try {
+                    int codechefRating = fetchCodechefRating(cache, handle, codechefHandle);
 
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+                    // update the user object with the codechef rating
+                    user.setCodechefRating(codechefRating);
 
+                    System.out.println("(" + progress.advance() + "/" + size + ") Codechef rating for " + handle + " with Codechef handle " + codechefHandle + " is: " + codechefRating);
+                    // Write to a text file
+                    sink.write(handle, codechefHandle, codechefRating);
+                } catch (IOException | JSONException e) {
+                    progress.fail();
+                    failedHandles.add(handle + "," + codechefHandle);
+                    journal.fail(handle, codechefHandle);
+                    System.err.println("Error fetching codechef rating for " + codechefHandle + ": " + e.getMessage());
+                }
+            });
+        } finally {
+            // Keep what was fetched so far, a failed run is resumed from here
+            cache.close();
+            sink.close();
         }
+        journal.finish();
 
+        if (!failedHandles.isEmpty()) {
+            System.err.println("Failed to fetch Codechef ratings for " + failedHandles.size() + " handles: " + failedHandles);
+        }
         System.out.println("Codechef scraping completed.");
         System.out.println("========================================");
 
     }
 
-
-    private static final int MAX_HANDLES_PER_REQUEST = 380;
-
     /**
-     * Scrapes Codeforces ratings for a list of users and writes the results to a text file.
+     * Fetches the current Codechef rating of a handle, retrying while the API signals overload. The host's rate
+     * limiter backs off between attempts. Handles fetched within the cache TTL are not requested at all, and the
+     * rest are requested conditionally so that an unchanged profile costs only a 304.
      *
-     * @param  resultSet  list of User objects to scrape ratings for
-     * @throws CustomScrapingException  if unable to fetch Codeforces rating after 10 retries
+     * @param  cache           the Codechef fetch cache
+     * @param  handle          the student handle
+     * @param  codechefHandle  the Codechef handle
+     * @return                 the current rating
+     * @throws IOException     if the handle does not exist or the API keeps failing
+     * @throws JSONException   if the response has no rating
      */
-    private static void scrapeCodeforces(ArrayList<User> resultSet) throws CustomScrapingException {
-        System.out.println("Codeforces scraping in progress...");
+    private static int fetchCodechefRating(FetchCache cache, String handle, String codechefHandle) throws IOException, JSONException {
+        FetchCache.Entry fresh = cache.fresh(handle, codechefHandle);
+        if (fresh != null) {
+            return fresh.rating;
+        }
+        FetchCache.Entry cached = cache.lookup(handle, codechefHandle);
 
-        File file = new File("codeforces_ratings.txt");
-        try {
-            FileWriter writer = new FileWriter(file);
-            writer.write(""); // Clearing the file
-            writer.close();
-        } catch (IOException e) {
-            System.err.println("Error clearing file: " + e.getMessage());
+        HttpFetcher.Response response = null;
+        for (int attempt = 1; attempt <= CODECHEF_MAX_ATTEMPTS; attempt++) {
+            response = HttpFetcher.get(PlatformEndpoint.CODECHEF.url(CODECHEF_PATH + codechefHandle), FetchCache.conditionalHeaders(cached));
+            if (!HostRateLimiter.isOverloaded(response.statusCode())) {
+                break;
+            }
+        }
+        int rating;
+        if (response.statusCode() == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+            rating = cached.rating;
+        } else {
+            JSONObject jsonObject = new JSONObject(response.ensureSuccess().body());
+            rating = jsonObject.getInt("currentRating");
         }
+        cache.record(handle, codechefHandle, rating, response);
+        return rating;
+    }
 
-        List<List<User>> userChunks = splitUsersIntoChunks(resultSet);
 
-        int counter = 1;
-        int totalUsers = resultSet.size();
+    // Longest request URL sent to Codeforces, including the signature
+    private static final int CODEFORCES_MAX_URL_LENGTH = 8000;
+    // Maximum number of Codeforces batches in flight at once; the host's rate limiter still spaces the requests
+    private static final int CODEFORCES_MAX_IN_FLIGHT = 4;
+    // Attempts per batch before the batch is given up
+    private static final int CODEFORCES_MAX_ATTEMPTS = 10;
 
-        for (List<User> users : userChunks) {
-            int retryCount = 0;
-            while (retryCount < 10) {
-                try {
-                    String codeforcesHandles = users.stream()
-                            .map(User::getCodeforcesHandle)
-                            .map(handle -> handle.replaceAll(" ", ""))
-                            .collect(Collectors.joining(";"));
+    /**
+     * Scrapes Codeforces ratings for a list of users and writes the results to a text file. Handles are sent in
+     * batches that fit in one request URL, and the batches are fetched concurrently under the Codeforces rate limit.
+     *
+     * @param  resultSet  list of User objects to scrape ratings for
+     * @throws CustomScrapingException  if unable to fetch a batch of Codeforces ratings after 10 retries
+     * @throws InterruptedException     if the thread is interrupted while scraping
+     */
+    private static void scrapeCodeforces(ArrayList<User> resultSet) throws CustomScrapingException, InterruptedException {
+        System.out.println("Codeforces scraping in progress...");
 
-                    String url = CODEFORCES_URL + codeforcesHandles;
-                    url = url.replaceAll("\t", "");
-                    System.out.println("Codeforces URL: " + url);
+        ScrapeJournal journal = ScrapeJournal.open("codeforces", "codeforces_ratings.txt");
+        RatingSink sink = RatingSink.open("codeforces_ratings.txt", journal.isResuming());
 
-                    long currentTime = System.currentTimeMillis() / 1000;
-                    String rand = generateRandomString(6);
-                    String apiSig = generateApiSig(rand, "user.info", codeforcesHandles, currentTime, API_SECRET);
+        int totalUsers = resultSet.size();
+        ScrapeOrchestrator.ScrapeProgress progress = ScrapeOrchestrator.progress("codeforces", totalUsers);
+        FetchCache cache = FetchCache.open("codeforces");
 
-                    url += "&apiKey=" + API_KEY + "&time=" + currentTime + "&apiSig=" + rand + apiSig;
+        // Handles fetched within the cache TTL are written from the cache and left out of the batches
+        ArrayList<User> staleUsers = new ArrayList<>();
+        for (User user : resultSet) {
+            if (journal.isCompleted(user.getHandle())) {
+                progress.advance();
+                continue;
+            }
+            String codeforcesHandle = codeforcesHandle(user);
+            FetchCache.Entry fresh = cache.fresh(user.getHandle(), codeforcesHandle);
+            if (fresh == null) {
+                staleUsers.add(user);
+                continue;
+            }
+            user.setCodeforcesRating(fresh.rating);
+            System.out.println("(" + progress.advance() + "/" + totalUsers + ") " + "Codeforces rating for " + codeforcesHandle + " is: " + fresh.rating + " (cached)");
+            sink.write(user.getHandle(), codeforcesHandle, fresh.rating);
+        }
 
-                    Document doc = Jsoup.connect(url).ignoreContentType(true).method(org.jsoup.Connection.Method.GET).execute().parse();
-                    String jsonContent = doc.body().text();
+        // Codeforces may return a handle in a different case, so results are matched case-insensitively
+        Map<String, User> usersByHandle = new HashMap<>();
+        for (User user : staleUsers) {
+            usersByHandle.put(codeforcesHandle(user).toLowerCase(Locale.ROOT), user);
+        }
 
-                    JSONObject jsonObject = new JSONObject(jsonContent);
-                    JSONArray array = jsonObject.getJSONArray("result");
+        List<List<User>> userChunks = splitUsersIntoChunks(staleUsers);
+        List<List<User>> failedChunks = Collections.synchronizedList(new ArrayList<>());
 
-                    for (int i = 0; i < array.length(); i++) {
-                        JSONObject obj = array.getJSONObject(i);
-                        String handle = obj.getString("handle");
-                        int rating = obj.optInt("rating", 0);
-                        System.out.println("(" + counter + "/" + totalUsers + ") " + "Codeforces rating for " + handle + " is: " + rating);
+        try {
+            ScrapeOrchestrator.forEachConcurrently(userChunks, CODEFORCES_MAX_IN_FLIGHT, users -> {
+                List<User> invalidUsers = new ArrayList<>();
+                try {
+                    Map<String, Integer> ratings = fetchCodeforcesRatings(users, invalidUsers);
+                    for (Map.Entry<String, Integer> entry : ratings.entrySet()) {
+                        String handle = entry.getKey();
+                        int rating = entry.getValue();
+                        System.out.println("(" + progress.advance() + "/" + totalUsers + ") " + "Codeforces rating for " + handle + " is: " + rating);
 
-                        User user = users.stream()
-                                .filter(u -> u.getCodeforcesHandle().replace(" ", "").equalsIgnoreCase(handle.replace(" ", "")))
-                                .findFirst()
-                                .orElse(null);
+                        User user = usersByHandle.get(handle.toLowerCase(Locale.ROOT));
                         if (user != null) {
                             user.setCodeforcesRating(rating);
-                            FileWriter writer = new FileWriter("codeforces_ratings.txt", true);
-                            writer.write(user.getHandle() + "," + handle + "," + rating + "\n");
-                            writer.close();
+                            cache.record(user.getHandle(), codeforcesHandle(user), rating, null);
+                            sink.write(user.getHandle(), handle, rating);
                         }
+                    }
+                    for (User user : invalidUsers) {
+                        progress.fail();
+                        journal.fail(user.getHandle(), codeforcesHandle(user));
+                        System.err.println("Codeforces handle not found: " + codeforcesHandle(user));
+                    }
+                } catch (IOException | NoSuchAlgorithmException e) {
+                    failedChunks.add(users);
+                    System.err.println("Error fetching Codeforces ratings for a batch of " + users.size() + " handles: " + e.getMessage());
+                }
+            });
 
-                        counter++;
+            if (!failedChunks.isEmpty()) {
+                for (List<User> users : failedChunks) {
+                    for (User user : users) {
+                        journal.fail(user.getHandle(), codeforcesHandle(user));
                     }
-                    break;
-                } catch (IOException e) {
-                    retryCount++;
-                    System.err.println("Error fetching Codeforces rating. Retrying attempt " + retryCount + ": " + e.getMessage());
-                } catch (Exception e) {
-                    System.err.println("Error processing request: " + e.getMessage());
                 }
+                journal.close();
+                throw new CustomScrapingException("Failed to fetch Codeforces rating after " + CODEFORCES_MAX_ATTEMPTS + " retries.");
             }
-            if (retryCount == 10) {
-                throw new CustomScrapingException("Failed to fetch Codeforces rating after 10 retries.");
-            }
+        } finally {
+            // Keep what was fetched so far, a failed run is resumed from here
+            cache.close();
+            sink.close();
         }
+        journal.finish();
         System.out.println("Codeforces scraping completed.");
         System.out.println("========================================");
     }
 
+    /**
+     * Fetches the ratings of one batch of Codeforces handles. Codeforces rejects the whole batch if a single handle
+     * does not exist, so a rejected batch is bisected until the invalid handles are isolated; the rest of the batch
+     * is still fetched. Other failures are retried up to CODEFORCES_MAX_ATTEMPTS times.
+     *
+     * @param  users         the users of the batch
+     * @param  invalidUsers  receives the users whose handle does not exist
+     * @return               Codeforces handle (as returned by the API) to rating
+     * @throws IOException   if the batch still fails after CODEFORCES_MAX_ATTEMPTS attempts, or the response is not
+     *                       the expected JSON
+     * @throws NoSuchAlgorithmException  if SHA-512 is not available for the signature
+     */
+    private static Map<String, Integer> fetchCodeforcesRatings(List<User> users, List<User> invalidUsers) throws IOException, NoSuchAlgorithmException {
+        String codeforcesHandles = users.stream()
+                .map(CMRITLeaderboard2026::codeforcesHandle)
+                .collect(Collectors.joining(";"));
+
+        HttpFetcher.JsonResponse<CodeforcesResponse> response = null;
+        IOException lastError = null;
+        for (int attempt = 1; attempt <= CODEFORCES_MAX_ATTEMPTS; attempt++) {
+            // The signature covers the request time, so every attempt is signed again
+            long currentTime = System.currentTimeMillis() / 1000;
+            String rand = generateRandomString(6);
+            String apiSig = generateApiSig(rand, "user.info", codeforcesHandles, currentTime, API_SECRET);
+            String url = PlatformEndpoint.CODEFORCES.url(CODEFORCES_PATH + codeforcesHandles) + "&apiKey=" + API_KEY + "&time=" + currentTime + "&apiSig=" + rand + apiSig;
+            try {
+                response = HttpFetcher.sendJson(HttpFetcher.request(url).GET().build(), CodeforcesResponse::read);
+                if (response.statusCode() == HttpURLConnection.HTTP_BAD_REQUEST && response.value() != null) {
+                    break;
+                }
+                response.ensureSuccess();
+                break;
+            } catch (IOException e) {
+                lastError = e;
+                response = null;
+                System.err.println("Error fetching Codeforces rating. Retrying attempt " + attempt + ": " + e.getMessage());
+            }
+        }
+        if (response == null) {
+            throw lastError;
+        }
+
+        Map<String, Integer> ratings = new LinkedHashMap<>();
+        if (response.statusCode() == HttpURLConnection.HTTP_BAD_REQUEST) {
+            // e.g. "handles: User with handle xyz not found"; any other 400 is not caused by the handles
+            String comment = response.value().comment == null ? "" : response.value().comment;
+            if (!comment.startsWith("handles:")) {
+                throw new IOException("Codeforces rejected the request: " + comment);
+            }
+            if (users.size() == 1) {
+                invalidUsers.add(users.get(0));
+                return ratings;
+            }
+            int middle = users.size() / 2;
+            ratings.putAll(fetchCodeforcesRatings(users.subList(0, middle), invalidUsers));
+            ratings.putAll(fetchCodeforcesRatings(users.subList(middle, users.size()), invalidUsers));
+            return ratings;
+        }
+
+        ratings.putAll(response.value().ratings);
+        return ratings;
+    }
+
+    /**
+     * The parts of a Codeforces user.info response the scraper needs.
+     */
+    static class CodeforcesResponse {
+        String status;
+        String comment;
+        // Handle (as returned by the API) to rating, 0 for unrated users
+        Map<String, Integer> ratings = new LinkedHashMap<>();
+
+        static CodeforcesResponse read(JsonReader reader) throws IOException {
+            CodeforcesResponse response = new CodeforcesResponse();
+            JsonStreams.readObject(reader, (name, r) -> {
+                switch (name) {
+                    case "status" -> response.status = JsonStreams.nextStringOrNull(r);
+                    case "comment" -> response.comment = JsonStreams.nextStringOrNull(r);
+                    case "result" -> JsonStreams.readArray(r, element -> {
+                        String[] handle = new String[1];
+                        double[] rating = {0};
+                        JsonStreams.readObject(element, (field, value) -> {
+                            switch (field) {
+                                case "handle" -> handle[0] = value.nextString();
+                                case "rating" -> rating[0] = JsonStreams.nextDouble(value, 0);
+                                default -> value.skipValue();
+                            }
+                        });
+                        if (handle[0] != null) {
+                            response.ratings.put(handle[0], (int) rating[0]);
+                        }
+                        return null;
+                    });
+                    default -> r.skipValue();
+                }
+            });
+            return response;
+        }
+    }
+
+    // The Codeforces handle of a user with the whitespace that sometimes sneaks into the roster removed
+    private static String codeforcesHandle(User user) {
+        return user.getCodeforcesHandle().replace(" ", "").replace("\t", "");
+    }
+
     private static String generateRandomString(int length) {
         String chars = "0123456789abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ";
         StringBuilder sb = new StringBuilder(length);
@@ -1010,7 +1025,7 @@ public class CMRITLeaderboard2026 {
         return sb.toString();
     }
 
-    private static String generateApiSig(String rand, String methodName, String handles, long time, String secret) throws NoSuchAlgorithmException {
+    static String generateApiSig(String rand, String methodName, String handles, long time, String secret) throws NoSuchAlgorithmException {
         String parameters = "apiKey=" + API_KEY + "&handles=" + handles + "&time=" + time;
         String toHash = rand + "/" + methodName + "?" + parameters + "#" + secret;
 
@@ -1031,38 +1046,54 @@ public class CMRITLeaderboard2026 {
 
 
     /**
-     * Splits the list of users into chunks of a specified size.
+     * Splits the list of users into batches whose signed request URL stays within CODEFORCES_MAX_URL_LENGTH.
      *
      * @param  resultSet  the list of users to be split
      * @return            a list of chunks, each containing a sublist of users
      */
-    private static List<List<User>> splitUsersIntoChunks(ArrayList<User> resultSet) {
-        // Initialize an empty list to store the chunks
-        List<List<User>> chunks = new ArrayList<>();
-
-        // Get the total number of users
-        int size = resultSet.size();
-
-        // Iterate through the list of users and split them into chunks of size MAX_HANDLES_PER_REQUEST
-        for (int i = 0; i < size; i += MAX_HANDLES_PER_REQUEST) {
-            // Calculate the end index of the chunk
-            int end = Math.min(size, i + MAX_HANDLES_PER_REQUEST);
+    private static List<List<User>> splitUsersIntoChunks(List<User> resultSet) {
+        // Length of everything in the URL except the handles: "&apiKey=...&time=...&apiSig=" with a 6 character
+        // prefix and a SHA-512 hex digest
+        int fixedLength = PlatformEndpoint.CODEFORCES.url(CODEFORCES_PATH).length() + "&apiKey=".length() + (API_KEY == null ? 4 : API_KEY.length())
+                + "&time=".length() + 10 + "&apiSig=".length() + 6 + 128;
 
-            // Create a sublist of users and add it to the chunks list
-            chunks.add(new ArrayList<>(resultSet.subList(i, end)));
+        List<List<User>> chunks = new ArrayList<>();
+        List<User> chunk = new ArrayList<>();
+        int length = fixedLength;
+        for (User user : resultSet) {
+            // Each handle is sent URL encoded and separated by a ';'
+            int handleLength = URLEncoder.encode(codeforcesHandle(user), StandardCharsets.UTF_8).length() + 1;
+            if (!chunk.isEmpty() && length + handleLength > CODEFORCES_MAX_URL_LENGTH) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                length = fixedLength;
+            }
+            chunk.add(user);
+            length += handleLength;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
         }
-
-        // Return the list of chunks
         return chunks;
     }
 
-    private static final int MAX_REQUESTS_PER_SECOND = 2;
-    private static final long REQUEST_INTERVAL_MILLIS = 1000 / MAX_REQUESTS_PER_SECOND;
-
-    private static long lastRequestTime = 0;
+    // Headers LeetCode expects on GraphQL requests
+    private static final Map<String, String> LEETCODE_HEADERS = Map.of(
+            "Accept", "application/json",
+            "Accept-Language", "en-US,en;q=0.9",
+            "Origin", "https://leetcode.com",
+            "Referer", "https://leetcode.com/"
+    );
+    // Number of handles in the first batched Leetcode query, and the bounds the batch size adapts between
+    private static final int LEETCODE_INITIAL_BATCH_SIZE = 20;
+    private static final int LEETCODE_MAX_BATCH_SIZE = 100;
+    // Attempts per handle before it is recorded as failed
+    private static final int LEETCODE_MAX_ATTEMPTS = 5;
 
     /**
-     * Scrapes Leetcode ratings for a list of users and updates their user objects with the ratings.
+     * Scrapes Leetcode ratings for a list of users and updates their user objects with the ratings. Handles are
+     * fetched in batches, one GraphQL query per batch. The batch size grows while batches succeed and halves when a
+     * batch or part of it fails; the failed handles are retried in the next batches.
      *
      * @param  resultSet  ArrayList of User objects to scrape ratings for
      */
@@ -1070,145 +1101,211 @@ public class CMRITLeaderboard2026 {
         // Scraper logic for Leetcode
         System.out.println("Leetcode scraping in progress...");
 
-        // Create or clear the file for writing
-        File file = new File("leetcode_ratings.txt");
-        try {
-            // Clearing the file
-            FileWriter writer = new FileWriter(file);
-            writer.write("");
-            writer.close();
-        } catch (IOException e) {
-            // Error handling
-            System.err.println("Error clearing file: " + e.getMessage());
-        }
+        // Create or clear the file for writing, unless an unfinished run is resumed
+        ScrapeJournal journal = ScrapeJournal.open("leetcode", "leetcode_ratings.txt");
+        RatingSink sink = RatingSink.open("leetcode_ratings.txt", journal.isResuming());
 
-        int counter = 1;
         int size = resultSet.size();
+        ScrapeOrchestrator.ScrapeProgress progress = ScrapeOrchestrator.progress("leetcode", size);
+        FetchCache cache = FetchCache.open("leetcode");
 
-        for (User user : resultSet) {
+        try {
+            Deque<User> pending = new ArrayDeque<>();
+            for (User user : resultSet) {
+                String handle = user.getHandle();
+                String leetcodeHandle = user.getLeetcodeHandle();
+
+                // Skip handles already written by the run being resumed
+                if (journal.isCompleted(handle)) {
+                    progress.advance();
+                    continue;
+                }
 
-            // Rate limiting
-            long currentTime = System.currentTimeMillis();
-            long timeElapsedSinceLastRequest = currentTime - lastRequestTime;
-            if (timeElapsedSinceLastRequest < REQUEST_INTERVAL_MILLIS) {
-                try {
-                    // Sleep for rate limiting
-                    Thread.sleep(REQUEST_INTERVAL_MILLIS - timeElapsedSinceLastRequest);
-                } catch (InterruptedException e) {
-                    // Interrupted exception handling
-                    Thread.currentThread().interrupt();
-                    throw new RuntimeException("Interrupted while sleeping for rate limiting", e);
+                // Skip handles fetched within the cache TTL
+                FetchCache.Entry fresh = cache.fresh(handle, leetcodeHandle);
+                if (fresh != null) {
+                    user.setLeetcodeRating(fresh.rating);
+                    System.out.println("(" + progress.advance() + "/" + size + ") " + "Leetcode rating for " + handle + " with leetcode handle " + leetcodeHandle + " is: " + fresh.rating + " (cached)");
+                    sink.write(handle, leetcodeHandle, fresh.rating);
+                    continue;
                 }
+                pending.add(user);
             }
-            lastRequestTime = System.currentTimeMillis();
 
-            // Construct URL for API request
-            String handle = user.getHandle();
-            String leetcodeHandle = user.getLeetcodeHandle();
-            String encodedLeetcodeHandle = URLEncoder.encode(leetcodeHandle, StandardCharsets.UTF_8);
-
-            String url = LEETCODE_URL + URLEncoder.encode("query{userContestRanking(username:\"" + encodedLeetcodeHandle + "\"){rating}}", StandardCharsets.UTF_8);
-
-            try {
-                System.out.println("URL: " + url + "\n====================================");
-                URI websiteUrl = new URI(url);
-                URLConnection connection = websiteUrl.toURL().openConnection();
-                HttpURLConnection o = (HttpURLConnection) connection;
-
-                // Set request method
-                o.setRequestMethod("GET");
-
-                // Add provided headers
-                o.setRequestProperty("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8,application/signed-exchange;v=b3;q=0.7");
-                o.setRequestProperty("Accept-Language", "en-US,en;q=0.9,en-IN;q=0.8,en-GB;q=0.7");
-                o.setRequestProperty("Cache-Control", "max-age=0");
-                o.setRequestProperty("Cookie", "gr_user_id=e0bc031e-2749-493a-b6e8-33f33fe2e6d0; __stripe_mid=f4e2affa-c7a2-4359-b07d-9ed75a0d2ff74f1623; 87b5a3c3f1a55520_gr_last_sent_cs1=21r01a67e6; csrftoken=wNsw5l1EIsHhzc4TQX0Q6DDw3C1gkGN83o9229f3ULBBccvahHyRldbeLWNSqvNu; 87b5a3c3f1a55520_gr_cs1=21r01a67e6; _ga_CDRWKZTDEX=GS1.1.1706187230.19.1.1706187296.60.0.0; _ga=GA1.1.1231149882.1693316228; cf_clearance=wfRNb1td_mDRegZDij_p0TPFyRXf6hvQctV6X5xzEK4-1708415178-1.0-AQG+8uiVC3mUEYY8sC4cibGLgiW/1S94eORpvLmbnddQ1Pl4pcDHQfbFjwxeTOVKicAOKjPO6d2TfTsIA3EO9uY=; LEETCODE_SESSION=eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9.eyJfYXV0aF91c2VyX2lkIjoiNzk3NzczMiIsIl9hdXRoX3VzZXJfYmFja2VuZCI6ImFsbGF1dGguYWNjb3VudC5hdXRoX2JhY2tlbmRzLkF1dGhlbnRpY2F0aW9uQmFja2VuZCIsIl9hdXRoX3VzZXJfaGFzaCI6IjM3ZGEyNzM3OTEzMWZkNGVkNzNiMjEzOTc5MmRiYWU3YmEzNzU0MjVmYTE1ZDQ0NmFhNGQ4MDdhYjQ4ZmZlZWYiLCJpZCI6Nzk3NzczMiwiZW1haWwiOiIyMXIwMWE2N2U2QGNtcml0b25saW5lLmFjLmluIiwidXNlcm5hbWUiOiIyMXIwMWE2N2U2IiwidXNlcl9zbHVnIjoiMjFyMDFhNjdlNiIsImF2YXRhciI6Imh0dHBzOi8vYXNzZXRzLmxlZXRjb2RlLmNvbS91c2Vycy9hdmF0YXJzL2F2YXRhcl8xNjY4MTg2MzEwLnBuZyIsInJlZnJlc2hlZF9hdCI6MTcwOTgyNTA2NCwiaXAiOiIxODMuODMuMjI1LjI0MyIsImlkZW50aXR5IjoiY2U1OGE1MjYwYmE0ZmE5Y2RlZGY0ODg2ZTRjZjQ1YzYiLCJzZXNzaW9uX2lkIjo1NDI3OTE4NH0.6zLWAStoqoYNd_1nM67_UohxjqkvSZkNIAmIPupV-Vs; INGRESSCOOKIE=25e33f9f5bb4b70334074b2a6707350c|8e0876c7c1464cc0ac96bc2edceabd27; __cf_bm=ca1lJgDedKfTUr8uvXaHThqTO7xIm2D6NFB71xAYeIs-1709827901-1.0.1.1-l8Kl3r1Eq6d3zxmKkKSOM9_lWIwYugvVncpeWebvf43gyY5aJiN6bkML7cOW_LbY7sx0LB2BAsaSQlpx4HirBw");
-                o.setRequestProperty("Sec-Ch-Ua", "\"Chromium\";v=\"122\", \"Not(A:Brand\";v=\"24\", \"Microsoft Edge\";v=\"122\"");
-                o.setRequestProperty("Sec-Ch-Ua-Arch", "\"x86\"");
-                o.setRequestProperty("Sec-Ch-Ua-Bitness", "\"64\"");
-                o.setRequestProperty("Sec-Ch-Ua-Full-Version", "\"122.0.2365.66\"");
-                o.setRequestProperty("Sec-Ch-Ua-Full-Version-List", "\"Chromium\";v=\"122.0.6261.95\", \"Not(A:Brand\";v=\"24.0.0.0\", \"Microsoft Edge\";v=\"122.0.2365.66\"");
-                o.setRequestProperty("Sec-Ch-Ua-Mobile", "?0");
-                o.setRequestProperty("Sec-Ch-Ua-Model", "\"\"");
-                o.setRequestProperty("Sec-Ch-Ua-Platform", "\"Windows\"");
-                o.setRequestProperty("Sec-Ch-Ua-Platform-Version", "\"15.0.0\"");
-                o.setRequestProperty("Sec-Fetch-Dest", "document");
-                o.setRequestProperty("Sec-Fetch-Mode", "navigate");
-                o.setRequestProperty("Sec-Fetch-Site", "none");
-                o.setRequestProperty("Sec-Fetch-User", "?1");
-                o.setRequestProperty("Upgrade-Insecure-Requests", "1");
-                o.setRequestProperty("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/122.0.0.0 Safari/537.36 Edg/122.0.0.0");
-
-                if (o.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND || o.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST) {
-                    // Handle specific response codes
-                    if (o.getResponseCode() == 524) {
-                        // Wait and retry for response code 524
-                        Thread.sleep(30000);
-                        o.setRequestMethod("GET");
-                        continue;
-                    }
-                    throw new RuntimeException();
+            // Rate limiting is handled per host by HttpFetcher
+            Map<User, Integer> attempts = new HashMap<>();
+            int batchSize = LEETCODE_INITIAL_BATCH_SIZE;
+            while (!pending.isEmpty()) {
+                List<User> batch = new ArrayList<>();
+                while (batch.size() < batchSize && !pending.isEmpty()) {
+                    batch.add(pending.poll());
                 }
 
-                // Read response
-                try (InputStream inputStream = connection.getInputStream();
-                     BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-                    System.out.println("input stream: \n" + inputStream + "\n==================================");
-                    StringBuilder jsonContent = new StringBuilder();
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        jsonContent.append(line);
-                    }
-
-                    System.out.println("Json Content: \n" + jsonContent + "\n==================================");
+                Map<User, Integer> ratings;
+                try {
+                    ratings = fetchLeetcodeRatings(batch);
+                } catch (IOException | JSONException e) {
+                    System.err.println("Error fetching leetcode ratings for a batch of " + batch.size() + " handles: " + e.getMessage());
+                    ratings = Map.of();
+                }
 
-                    // Parse JSON response
-                    int rating = getRating(jsonContent);
+                List<User> retry = new ArrayList<>();
+                for (User user : batch) {
+                    String handle = user.getHandle();
+                    String leetcodeHandle = user.getLeetcodeHandle();
+                    Integer rating = ratings.get(user);
+                    if (rating != null) {
+                        cache.record(handle, leetcodeHandle, rating, null);
 
-                    // Update the user object with the leetcode rating
-                    user.setLeetcodeRating(rating);
+                        // Update the user object with the leetcode rating
+                        user.setLeetcodeRating(rating);
 
-                    // Print the rating information
-                    System.out.println("(" + counter + "/" + size + ") " + "Leetcode rating for " + handle + " with leetcode handle " + leetcodeHandle + " is: " + rating);
+                        // Print the rating information
+                        System.out.println("(" + progress.advance() + "/" + size + ") " + "Leetcode rating for " + handle + " with leetcode handle " + leetcodeHandle + " is: " + rating);
 
-                    // Write to a text file
-                    FileWriter writer = new FileWriter("leetcode_ratings.txt", true);
-                    writer.write(user.getHandle() + "," + leetcodeHandle + "," + rating + "\n");
-                    writer.close();
-
-                    counter++;
-                } catch (JSONException e) {
-                    // Error handling for JSON parsing
-                    System.err.println("Error fetching leetcode rating for " + handle + " with leetcode handle " + leetcodeHandle + ": " + e.getMessage());
-                } catch (IOException e) {
-                    // Error handling for IO operations
-                    throw new RuntimeException(e);
+                        // Write to a text file
+                        sink.write(handle, leetcodeHandle, rating);
+                    } else if (attempts.merge(user, 1, Integer::sum) >= LEETCODE_MAX_ATTEMPTS) {
+                        progress.fail();
+                        journal.fail(handle, leetcodeHandle);
+                        System.err.println("Error fetching leetcode rating for " + handle + " with leetcode handle " + leetcodeHandle + " after " + LEETCODE_MAX_ATTEMPTS + " attempts");
+                    } else {
+                        retry.add(user);
+                    }
+                }
+
+                // Grow the batch while batches succeed, halve it as soon as anything in a batch fails
+                if (retry.isEmpty()) {
+                    batchSize = Math.min(LEETCODE_MAX_BATCH_SIZE, batchSize + LEETCODE_INITIAL_BATCH_SIZE / 2);
+                } else {
+                    batchSize = Math.max(1, batchSize / 2);
+                    for (int i = retry.size() - 1; i >= 0; i--) {
+                        pending.addFirst(retry.get(i));
+                    }
                 }
-            } catch (URISyntaxException | IOException | InterruptedException e) {
-                // General exception handling
-                throw new RuntimeException(e);
             }
+        } finally {
+            // Keep what was fetched so far, a failed run is resumed from here
+            cache.close();
+            sink.close();
         }
+        journal.finish();
 
         System.out.println("Leetcode scraping completed.");
         System.out.println("========================================");
     }
 
-    private static int getRating(StringBuilder jsonContent) throws JSONException {
-        JSONObject jsonObject = new JSONObject(jsonContent.toString());
-        JSONObject data = jsonObject.optJSONObject("data");
-        JSONObject userContestRanking = data.optJSONObject("userContestRanking");
+    /**
+     * Fetches the contest ratings of a batch of Leetcode users with a single GraphQL query that selects
+     * userContestRanking once per user, under the aliases u0, u1, ... The handles are passed as query variables.
+     *
+     * @param  batch  the users to fetch
+     * @return        the ratings of the users that could be resolved; users missing from it should be retried
+     * @throws IOException    if the request fails
+     * @throws JSONException  if the response is not the expected JSON
+     */
+    private static Map<User, Integer> fetchLeetcodeRatings(List<User> batch) throws IOException, JSONException {
+        StringBuilder declarations = new StringBuilder();
+        StringBuilder selections = new StringBuilder();
+        JSONObject variables = new JSONObject();
+        for (int i = 0; i < batch.size(); i++) {
+            String alias = "u" + i;
+            if (i > 0) {
+                declarations.append(", ");
+            }
+            declarations.append('$').append(alias).append(": String!");
+            selections.append(alias).append(": userContestRanking(username: $").append(alias).append(") { rating } ");
+            variables.put(alias, batch.get(i).getLeetcodeHandle());
+        }
+        JSONObject body = new JSONObject();
+        body.put("query", "query(" + declarations + ") { " + selections + "}");
+        body.put("variables", variables);
+
+        return parseLeetcodeRatings(batch, HttpFetcher.postJson(PlatformEndpoint.LEETCODE.url(LEETCODE_GRAPHQL_PATH), body.toString(), LEETCODE_HEADERS, LeetcodeBatchResponse::read));
+    }
 
-        int rating = 0; // Default rating is 0
+    /**
+     * Demultiplexes an aliased userContestRanking response back to the users of the batch. A user whose selection
+     * is null gets 0, as before, when it has no contest ranking or does not exist. A user whose selection failed for
+     * any other reason is left out so that it is retried.
+     *
+     * @param  batch     the users of the batch, in alias order
+     * @param  response  the GraphQL response
+     * @return           the ratings of the users that could be resolved
+     * @throws IOException  if the response has no data at all
+     */
+    private static Map<User, Integer> parseLeetcodeRatings(List<User> batch, LeetcodeBatchResponse response) throws IOException {
+        if (!response.hasData) {
+            throw new IOException("No data in Leetcode response: " + response.errors.values());
+        }
 
-        if (userContestRanking != null) {
-            double rawRating = userContestRanking.optDouble("rating", Double.NaN);
-            if (!Double.isNaN(rawRating)) {
-                // Convert rating to int if it's not NaN
-                rating = (int) rawRating;
+        Map<User, Integer> ratings = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            String alias = "u" + i;
+            Double rawRating = response.rankings.get(alias);
+            if (rawRating != null) {
+                // Convert rating to int if it's not NaN, default rating is 0
+                ratings.put(batch.get(i), Double.isNaN(rawRating) ? 0 : (int) (double) rawRating);
+            } else {
+                String error = response.errors.get(alias);
+                if (error == null || error.toLowerCase(Locale.ROOT).contains("does not exist")) {
+                    ratings.put(batch.get(i), 0);
+                }
             }
         }
-        return rating;
+        return ratings;
+    }
+
+    /**
+     * The parts of an aliased userContestRanking response the scraper needs.
+     */
+    static class LeetcodeBatchResponse {
+        boolean hasData;
+        // Alias to rating, NaN for a ranking without a rating; aliases whose ranking is null are absent
+        Map<String, Double> rankings = new HashMap<>();
+        // GraphQL reports errors per selection through the alias at the start of their path
+        Map<String, String> errors = new HashMap<>();
+
+        static LeetcodeBatchResponse read(JsonReader reader) throws IOException {
+            LeetcodeBatchResponse response = new LeetcodeBatchResponse();
+            JsonStreams.readObject(reader, (name, r) -> {
+                switch (name) {
+                    case "data" -> {
+                        response.hasData = r.peek() != JsonToken.NULL;
+                        JsonStreams.readObject(r, (alias, ranking) -> {
+                            if (ranking.peek() == JsonToken.NULL) {
+                                ranking.nextNull();
+                                return;
+                            }
+                            double[] rating = {Double.NaN};
+                            JsonStreams.readObject(ranking, (field, value) -> {
+                                if (field.equals("rating")) {
+                                    rating[0] = JsonStreams.nextDouble(value, Double.NaN);
+                                } else {
+                                    value.skipValue();
+                                }
+                            });
+                            response.rankings.put(alias, rating[0]);
+                        });
+                    }
+                    case "errors" -> JsonStreams.readArray(r, error -> {
+                        String[] message = {""};
+                        List<String> path = new ArrayList<>();
+                        JsonStreams.readObject(error, (field, value) -> {
+                            switch (field) {
+                                case "message" -> message[0] = JsonStreams.nextStringOrNull(value);
+                                case "path" -> path.addAll(JsonStreams.readArray(value, JsonReader::nextString));
+                                default -> value.skipValue();
+                            }
+                        });
+                        response.errors.put(path.isEmpty() ? "" : path.get(0), message[0] == null ? "" : message[0]);
+                        return null;
+                    });
+                    default -> r.skipValue();
+                }
+            });
+            return response;
+        }
     }
 
     /**
@@ -1216,87 +1313,98 @@ public class CMRITLeaderboard2026 {
      *
      * @param  trueGfg          list of true GFG users
      * @param  gfgHandleToUserMap  map of GFG handle to User object
+     * @throws InterruptedException  if the thread is interrupted while sweeping the leaderboard
      */
-    private static void scrapeGfg(ArrayList<User> trueGfg, Map<String, User> gfgHandleToUserMap){
+    private static void scrapeGfg(ArrayList<User> trueGfg, Map<String, User> gfgHandleToUserMap) throws InterruptedException {
         // Scraper logic for GeeksforGeeks
 
         System.out.println("GeeksforGeeks scraping in progress...");
 
         // Essential variables
-        String url;
-        int counter = 1;
+        ScrapeOrchestrator.ScrapeProgress progress = ScrapeOrchestrator.progress("geeksforgeeks", trueGfg.size());
 
         // Create or clear the file for writing
-        File file = new File("gfg_ratings.txt");
-        try {
-            FileWriter writer = new FileWriter(file);
-            writer.write(""); // Clearing the file
-            writer.close();
-        } catch (IOException e) {
-            System.err.println("Error clearing file: " + e.getMessage());
-        }
+        RatingSink sink = RatingSink.open("gfg_ratings.txt");
 
-        // Overall weekly leaderboard scraping
+        // The leaderboard is one sweep for everyone, so it is skipped only when every handle is fresh in the cache
+        FetchCache cache = FetchCache.open("geeksforgeeks");
+        if (cache.allFresh(trueGfg, User::getGeeksforgeeksHandle)) {
+            System.out.println("All GFG weekly contest ratings are fresh in the cache, skipping the leaderboard sweep.");
+            for (User user : trueGfg) {
+                int rating = cache.fresh(user.getHandle(), user.getGeeksforgeeksHandle()).rating;
+                user.setGeeksforgeeksRating(rating);
+                // Handles missing from the leaderboard are cached as 0 and have no line in the file
+                if (rating > 0) {
+                    sink.write(user.getHandle(), user.getGeeksforgeeksHandle(), rating);
+                }
+            }
+            cache.close();
+            sink.close();
+            System.out.println("GFG overall scraping completed.");
+            System.out.println("========================================");
+            return;
+        }
+        Set<User> found = ConcurrentHashMap.newKeySet();
 
-        for(int j=1;j<=10000;j++) {
+        // Overall weekly leaderboard scraping. The first page tells how many participants there are, the remaining
+        // pages are then fetched concurrently. The leaderboard is sorted by score, so no page after the first
+        // zero score (or the first empty page) is needed.
+        try {
+            DataModel firstPage;
             try {
-                url = GFG_WEEKLY_CONTEST_URL + j;
-
-                System.out.println("Page: " + j);
-
-                // Fetch JSON data from a URL (or you can read from a file)
-                Document doc = Jsoup.connect(url).ignoreContentType(true).get();
-                String json = doc.body().text();
-
-                // Parse JSON using Gson
-                Gson gson = new Gson();
-                DataModel gfguserData = gson.fromJson(json, DataModel.class);
-
-                // Access parsed data
-
-                boolean foundZero = false;
+                firstPage = fetchGfgWeeklyPage(1);
+            } catch (IOException e) {
+                throw new RuntimeException("Error fetching GFG weekly contest leaderboard: " + e.getMessage(), e);
+            }
+            int lastPage = applyGfgWeeklyPage(firstPage, gfgHandleToUserMap, found, cache, sink, progress) ? 1 : planGfgWeeklyPages(firstPage);
 
-                for (Result gfgUser : gfguserData.results) {
-                    String gfgHandle = gfgUser.user_handle;
-                    User user = gfgHandleToUserMap.get(gfgHandle.toLowerCase());
-                    if (gfgUser.user_score == 0) {
-                        foundZero = true;
-                        break;
-                    }
-                    if (user != null) {
-                        user.setGeeksforgeeksRating((int)gfgUser.user_score);
-                        System.out.println("(" + counter + "/" + trueGfg.size() + ") " + "GFG weekly contest rating for " + user.getHandle() + " with GFG handle " + gfgHandle + " is: " + (int)gfgUser.user_score);
-                        // Write to a text file
-                        FileWriter writer = new FileWriter("gfg_ratings.txt", true);
-                        writer.write(user.getHandle() + "," + gfgHandle + "," + (int)gfgUser.user_score + "\n");
-                        writer.close();
-                        counter++;
+            AtomicInteger boundary = new AtomicInteger(lastPage);
+            List<Integer> pages = new ArrayList<>();
+            for (int page = 2; page <= lastPage; page++) {
+                pages.add(page);
+            }
+            List<Integer> failedPages = Collections.synchronizedList(new ArrayList<>());
+            ScrapeOrchestrator.forEachConcurrently(pages, GFG_MAX_IN_FLIGHT, page -> {
+                // Pages past the boundary found so far are not fetched at all
+                if (page > boundary.get()) {
+                    return;
+                }
+                try {
+                    DataModel data = fetchGfgWeeklyPage(page);
+                    if (applyGfgWeeklyPage(data, gfgHandleToUserMap, found, cache, sink, progress)) {
+                        boundary.accumulateAndGet(page, Math::min);
                     }
+                } catch (IOException e) {
+                    failedPages.add(page);
+                    System.err.println("Error fetching GFG weekly contest page " + page + ": " + e.getMessage());
                 }
+            });
+            // A page past the boundary holds only zero scores, so only the failures before it matter
+            failedPages.removeIf(page -> page > boundary.get());
 
-                if (foundZero) {
-                    break;
+            // set all unset ratings to 0
+            for (User user : trueGfg) {
+                if (user.getGeeksforgeeksRating() == null) {
+                    user.setGeeksforgeeksRating(0);
+                    System.out.println("(" + progress.advance() + "/" + trueGfg.size() + ") " + "GFG overall rating for " + user.getHandle() + " with GFG handle " + user.getGeeksforgeeksHandle() + " is: " + 0);
+                    sink.write(user.getHandle(), user.getGeeksforgeeksHandle(), 0);
                 }
-            } catch (IOException e) {
-                System.err.println("Error fetching GFG Practice rating: " + e.getMessage());
             }
-        }
 
-        // set all unset ratings to 0
-        for (User user : trueGfg) {
-            if (user.getGeeksforgeeksRating() == null) {
-                user.setGeeksforgeeksRating(0);
-                System.out.println("(" + counter + "/" + trueGfg.size() + ") " + "GFG overall rating for " + user.getHandle() + " with GFG handle " + user.getGeeksforgeeksHandle() + " is: " + 0);
-
-                try{
-                    FileWriter writer = new FileWriter("gfg_ratings.txt", true);
-                    writer.write(user.getHandle() + "," + user.getGeeksforgeeksHandle() + "," + 0 + "\n");
-                    writer.close();
-                    counter++;
-                } catch (IOException e) {
-                    System.err.println("Error fetching GFG contest rating: " + e.getMessage());
+            // Remember the handles that are not on the leaderboard as well, so the next run can skip the sweep. If a
+            // page could not be fetched, a missing handle may just be on that page, so nothing is cached for it.
+            if (failedPages.isEmpty()) {
+                for (User user : trueGfg) {
+                    if (!found.contains(user)) {
+                        cache.record(user.getHandle(), user.getGeeksforgeeksHandle(), 0, null);
+                    }
                 }
+            } else {
+                System.err.println("Failed to fetch GFG weekly contest pages " + failedPages + ", their participants are missing.");
             }
+        } finally {
+            cache.close();
+            sink.close();
         }
 
         System.out.println("GFG overall scraping completed.");
@@ -1304,150 +1412,201 @@ public class CMRITLeaderboard2026 {
 
     }
 
+    // Maximum number of GFG weekly contest pages in flight at once
+    private static final int GFG_MAX_IN_FLIGHT = 8;
+    // Attempts per GFG weekly contest page before the page is given up
+    private static final int GFG_MAX_ATTEMPTS = 5;
+    // Upper bound of the sweep when the leaderboard does not report its size
+    private static final int GFG_MAX_PAGES = 10000;
+
+    /**
+     * Fetches one page of the GFG weekly contest leaderboard, retrying failed requests.
+     *
+     * @param  page  the page number, starting at 1
+     * @return       the parsed page
+     * @throws IOException  if the page still fails after GFG_MAX_ATTEMPTS attempts
+     */
+    private static DataModel fetchGfgWeeklyPage(int page) throws IOException {
+        IOException lastError = null;
+        for (int attempt = 1; attempt <= GFG_MAX_ATTEMPTS; attempt++) {
+            try {
+                System.out.println("Page: " + page);
+                return HttpFetcher.getJson(PlatformEndpoint.GFG_PRACTICE_API.url(GFG_WEEKLY_CONTEST_PATH + page), DataModel::read);
+            } catch (IOException e) {
+                lastError = e;
+                System.err.println("Error fetching GFG weekly contest page " + page + ", attempt " + attempt + ": " + e.getMessage());
+            }
+        }
+        throw lastError;
+    }
+
+    // Last page worth fetching, planned from the participant count and page size of the first page
+    private static int planGfgWeeklyPages(DataModel firstPage) {
+        int pageSize = firstPage.results == null ? 0 : firstPage.results.length;
+        if (firstPage.count <= 0 || pageSize == 0) {
+            return pageSize == 0 ? 1 : GFG_MAX_PAGES;
+        }
+        return Math.min(GFG_MAX_PAGES, (firstPage.count + pageSize - 1) / pageSize);
+    }
+
+    /**
+     * Applies one page of the GFG weekly contest leaderboard to the users on it.
+     *
+     * @return  true if the page reaches the end of the scored participants, i.e. has a zero score or is empty
+     */
+    private static boolean applyGfgWeeklyPage(DataModel data, Map<String, User> gfgHandleToUserMap, Set<User> found,
+                                              FetchCache cache, RatingSink sink, ScrapeOrchestrator.ScrapeProgress progress) {
+        if (data.results == null || data.results.length == 0) {
+            return true;
+        }
+        for (Result gfgUser : data.results) {
+            if (gfgUser.user_score == 0) {
+                return true;
+            }
+            String gfgHandle = gfgUser.user_handle;
+            User user = gfgHandleToUserMap.get(gfgHandle.toLowerCase());
+            if (user != null) {
+                user.setGeeksforgeeksRating((int)gfgUser.user_score);
+                found.add(user);
+                cache.record(user.getHandle(), user.getGeeksforgeeksHandle(), (int)gfgUser.user_score, null);
+                System.out.println("(" + progress.advance() + "/" + progress.getTotal() + ") " + "GFG weekly contest rating for " + user.getHandle() + " with GFG handle " + gfgHandle + " is: " + (int)gfgUser.user_score);
+                // Write to a text file
+                sink.write(user.getHandle(), gfgHandle, (int)gfgUser.user_score);
+            }
+        }
+        return false;
+    }
+
     /**
      * Scrapes GeeksforGeeks practice ratings for users and updates their ratings in the provided data structures
      *
      * @param  trueGfg           ArrayList of User objects to update practice ratings for
      * @param  gfgHandleToUserMap   Map of String to User for quick access to user data
+     * @throws InterruptedException  if the thread is interrupted while fetching profiles
      */
-    private static void scrapeGfgPractice(ArrayList<User> trueGfg, Map<String, User> gfgHandleToUserMap){
+    private static void scrapeGfgPractice(ArrayList<User> trueGfg, Map<String, User> gfgHandleToUserMap) throws InterruptedException {
         // Display progress message
         System.out.println("GeeksforGeeks scraping in progress...");
 
-        // Clear the file for writing
-        File file = new File("gfg_practice_ratings.txt");
-        try {
-            FileWriter writer = new FileWriter(file);
-            writer.write(""); // Clearing the file
-            writer.close();
-        } catch (IOException e) {
-            System.err.println("Error clearing file: " + e.getMessage());
-        }
+        // Clear the file for writing, unless an unfinished run is resumed
+        ScrapeJournal journal = ScrapeJournal.open("gfg_practice", "gfg_practice_ratings.txt");
+        RatingSink sink = RatingSink.open("gfg_practice_ratings.txt", journal.isResuming());
 
         System.out.println("GFG practice scraping in progress...");
 
-        int counter = 1;
+        ScrapeOrchestrator.ScrapeProgress progress = ScrapeOrchestrator.progress("gfg_practice", trueGfg.size());
+
+        // Skip the institute page and the profiles entirely when every handle is fresh in the cache
+        FetchCache cache = FetchCache.open("gfg_practice");
+        if (cache.allFresh(trueGfg, User::getGeeksforgeeksHandle)) {
+            System.out.println("All GFG practice ratings are fresh in the cache, skipping scraping.");
+            for (User user : trueGfg) {
+                if (journal.isCompleted(user.getHandle())) {
+                    continue;
+                }
+                int rating = cache.fresh(user.getHandle(), user.getGeeksforgeeksHandle()).rating;
+                user.setgeeksforgeeksPracticeRating(rating);
+                System.out.println("(" + progress.advance() + "/" + trueGfg.size() + ") " + "GFG practice contest rating for " + user.getHandle() + " with GFG handle " + user.getGeeksforgeeksHandle() + " is: " + rating + " (cached)");
+                sink.write(user.getHandle(), user.getGeeksforgeeksHandle(), rating);
+            }
+            cache.close();
+            sink.close();
+            journal.finish();
+            return;
+        }
 
         // Overall Practice score scraping
         for(int j=1;j<=1;j++) {
             try {
                 // Construct URL for practice scores
-                String url = GFG_PRACTICE_URL + j ;
+                String url = PlatformEndpoint.GFG_PRACTICE_API.url(GFG_PRACTICE_PATH + j);
 
                 System.out.println("Page: " + j);
 
-                // Check if URL exists else break
-                URI uri = new URI(url);
-                HttpURLConnection exists = (HttpURLConnection) uri.toURL().openConnection();
-                exists.setRequestMethod("GET");
-                if (exists.getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND || exists.getResponseCode() == HttpURLConnection.HTTP_BAD_REQUEST) {
+                // Fetch JSON data from the URL, stopping if the page does not exist
+                HttpFetcher.JsonResponse<GeeksforgeeksStatsResponse> response = HttpFetcher.sendJson(HttpFetcher.request(url).GET().build(), GeeksforgeeksStatsResponse::read);
+                if (response.statusCode() == HttpURLConnection.HTTP_NOT_FOUND || response.statusCode() == HttpURLConnection.HTTP_BAD_REQUEST) {
                     break;
                 }
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-
-                // Fetch JSON data from the URL
-                Document doc = Jsoup.connect(url).ignoreContentType(true).get();
-                String json = doc.body().text();
-
-                // Parse JSON using Gson
-                Gson gson = new Gson();
-                GeeksforgeeksStatsResponse gfguserData = gson.fromJson(json, GeeksforgeeksStatsResponse.class);
+                GeeksforgeeksStatsResponse gfguserData = response.ensureSuccess().value();
 
                 // Access parsed data and update user ratings
                 for (GeeksforgeeksStatsResult gfgUser : gfguserData.getResults()) {
                     String gfgHandle = gfgUser.getHandle();
                     User user = gfgHandleToUserMap.get(gfgHandle.toLowerCase());
-                    if (user != null) {
+                    if (user != null && !journal.isCompleted(user.getHandle())) {
                         user.setgeeksforgeeksPracticeRating(gfgUser.getCodingScore());
-                        System.out.println("(" + counter + "/" + trueGfg.size() + ") " + "GFG practice contest rating for " + user.getHandle() + " with GFG handle " + gfgHandle + " is: " + gfgUser.getCodingScore());
+                        cache.record(user.getHandle(), user.getGeeksforgeeksHandle(), gfgUser.getCodingScore(), null);
+                        System.out.println("(" + progress.advance() + "/" + trueGfg.size() + ") " + "GFG practice contest rating for " + user.getHandle() + " with GFG handle " + gfgHandle + " is: " + gfgUser.getCodingScore());
                         // Write to a text file
-                        FileWriter writer = new FileWriter("gfg_practice_ratings.txt", true);
-                        writer.write(user.getHandle() + "," + gfgHandle + "," + gfgUser.getCodingScore() + "\n");
-                        writer.close();
-                        counter++;
+                        sink.write(user.getHandle(), gfgHandle, gfgUser.getCodingScore());
                     }
                 }
             } catch (IOException e) {
                 System.err.println("Error fetching GFG Practice rating: " + e.getMessage());
-            } catch (URISyntaxException e) {
-                throw new RuntimeException(e);
             }
         }
         System.out.println("GFG practice scraping from institute page completed.");
 
-        // Set up Firefox Options for headless scraping
-        FirefoxOptions options = new FirefoxOptions();
-        options.addArguments("-headless");
+        // The handles missing from the institute page are read from their profiles
+        List<User> remaining = new ArrayList<>();
+        for (User user : trueGfg) {
+            if (user.getgeeksforgeeksPracticeRating() != null || journal.isCompleted(user.getHandle())) {
+                continue;
+            }
+            String gfgHandle = user.getGeeksforgeeksHandle();
+            FetchCache.Entry cached = cache.fresh(user.getHandle(), gfgHandle);
+            if (cached != null) {
+                user.setgeeksforgeeksPracticeRating(cached.rating);
+                System.out.println("(" + progress.advance() + "/" + trueGfg.size() + ") " + "GFG practice contest rating for " + user.getHandle() + " with GFG handle " + gfgHandle + " is: " + cached.rating + " (cached)");
+                sink.write(user.getHandle(), gfgHandle, cached.rating);
+            } else {
+                remaining.add(user);
+            }
+        }
 
-        // Initialize Firefox driver and navigate to the website
-        WebDriver driver = new FirefoxDriver(options);
-        driver.get("https://auth.geeksforgeeks.org/");
+        try (GfgProfileFetcher profiles = new GfgProfileFetcher()) {
+            ScrapeOrchestrator.forEachConcurrently(remaining, GFG_PROFILE_MAX_IN_FLIGHT, user -> {
+                String gfgHandle = user.getGeeksforgeeksHandle();
+                System.out.println("Practice rating not found for " + user.getHandle() + " with GFG handle " + gfgHandle + ". Fetching from profile...");
+                try {
+                    int gfgRating = profiles.fetchCodingScore(gfgHandle);
+                    user.setgeeksforgeeksPracticeRating(gfgRating);
+                    cache.record(user.getHandle(), gfgHandle, gfgRating, null);
 
-        try {
-            // Find username and password fields and enter credentials
-            WebElement username = driver.findElement(By.id("luser"));
-            WebElement password = driver.findElement(By.id("password"));
-            String gfgUsername = System.getenv("GFG_USERNAME");
-            String gfgPassword = System.getenv("GFG_PASSWORD");
-            username.sendKeys(gfgUsername);
-            password.sendKeys(gfgPassword);
-
-            // Click on the sign-in button
-            WebElement signInButton = driver.findElement(By.className("signin-button"));
-            signInButton.click();
-
-            // Add a delay for demonstration purposes
-            Thread.sleep(5000);
-
-            // Iterate over users to fetch practice ratings if not already available
-            for (User user : trueGfg) {
-                if (user.getgeeksforgeeksPracticeRating() == null) {
-                    // Open user profile and get the rating
-                    String gfgHandle = user.getGeeksforgeeksHandle();
-                    System.out.println("Practice rating not found for " + user.getHandle() + " with GFG handle " + gfgHandle + ". Fetching from profile...");
-                    driver.get(GFG_URL + gfgHandle);
-                    try {
-                        Thread.sleep(2000);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                    // Fetch and parse practice rating
-                    try {
-                        WebElement scoreCardValue = driver.findElement(By.xpath("//span[contains(text(), 'Overall Coding Score')]/following-sibling::br/following-sibling::span"));
-                        int gfgRating = 0;
-                        try {
-                            gfgRating = Integer.parseInt(scoreCardValue.getText());
-                        } catch (NumberFormatException e) {
-                            System.err.println("Error parsing GFG practice contest rating for " + gfgHandle + ": " + e.getMessage());
-                        }
-                        user.setgeeksforgeeksPracticeRating(gfgRating);
-
-                        System.out.println("(" + counter + "/" + trueGfg.size() + ") " + "GFG practice contest rating for " + user.getHandle() + " with GFG handle " + user.getGeeksforgeeksHandle() + " is: " + gfgRating);
-                        FileWriter writer = new FileWriter("gfg_practice_ratings.txt", true);
-                        writer.write(user.getHandle() + "," + gfgHandle + "," + gfgRating + "\n");
-                        writer.close();
-                        counter++;
-                    } catch (NoSuchElementException | IOException e) {
-                        System.err.println("Error fetching GFG practice contest rating for " + gfgHandle + ": " + e.getMessage());
-                    }
+                    System.out.println("(" + progress.advance() + "/" + trueGfg.size() + ") " + "GFG practice contest rating for " + user.getHandle() + " with GFG handle " + gfgHandle + " is: " + gfgRating);
+                    sink.write(user.getHandle(), gfgHandle, gfgRating);
+                } catch (IOException e) {
+                    journal.fail(user.getHandle(), gfgHandle);
+                    System.err.println("Error fetching GFG practice contest rating for " + gfgHandle + ": " + e.getMessage());
                 }
-            }
-        } catch (Exception e) {
-            System.out.println("Error: " + e.getMessage());
+            });
         } finally {
-            // Close the browser
-            driver.quit();
+            cache.close();
+            sink.close();
         }
+        journal.finish();
     }
 
+    // Maximum number of GFG profiles fetched at once
+    private static final int GFG_PROFILE_MAX_IN_FLIGHT = 4;
+
     static class DataModel {
         int count;
         Result[] results;
         boolean consider_for_geek_bits;
+
+        static DataModel read(JsonReader reader) throws IOException {
+            DataModel data = new DataModel();
+            JsonStreams.readObject(reader, (name, r) -> {
+                switch (name) {
+                    case "count" -> data.count = (int) JsonStreams.nextDouble(r, 0);
+                    case "results" -> data.results = JsonStreams.readArray(r, Result::read).toArray(new Result[0]);
+                    default -> r.skipValue();
+                }
+            });
+            return data;
+        }
     }
 
     static class Result {
@@ -1455,6 +1614,18 @@ public class CMRITLeaderboard2026 {
         String user_handle;
         double user_score;
         int user_rank;
+
+        static Result read(JsonReader reader) throws IOException {
+            Result result = new Result();
+            JsonStreams.readObject(reader, (name, r) -> {
+                switch (name) {
+                    case "user_handle" -> result.user_handle = JsonStreams.nextStringOrNull(r);
+                    case "user_score" -> result.user_score = JsonStreams.nextDouble(r, 0);
+                    default -> r.skipValue();
+                }
+            });
+            return result;
+        }
     }
 
     static class GeeksforgeeksStatsResponse {
@@ -1468,6 +1639,18 @@ public class CMRITLeaderboard2026 {
 
         // Getters and setters
         public List<GeeksforgeeksStatsResult> getResults() {return results;}
+
+        static GeeksforgeeksStatsResponse read(JsonReader reader) throws IOException {
+            GeeksforgeeksStatsResponse response = new GeeksforgeeksStatsResponse();
+            JsonStreams.readObject(reader, (name, r) -> {
+                if (name.equals("results")) {
+                    response.results = JsonStreams.readArray(r, GeeksforgeeksStatsResult::read);
+                } else {
+                    r.skipValue();
+                }
+            });
+            return response;
+        }
     }
 
     static class GeeksforgeeksStatsResult {
@@ -1485,6 +1668,18 @@ public class CMRITLeaderboard2026 {
         // Getters and setters
         public String getHandle() {return handle;}
         public int getCodingScore() {return codingScore;}
+
+        static GeeksforgeeksStatsResult read(JsonReader reader) throws IOException {
+            GeeksforgeeksStatsResult result = new GeeksforgeeksStatsResult();
+            JsonStreams.readObject(reader, (name, r) -> {
+                switch (name) {
+                    case "handle" -> result.handle = JsonStreams.nextStringOrNull(r);
+                    case "coding_score" -> result.codingScore = (int) JsonStreams.nextDouble(r, 0);
+                    default -> r.skipValue();
+                }
+            });
+            return result;
+        }
     }
 
     /**
@@ -1492,320 +1687,241 @@ public class CMRITLeaderboard2026 {
      *
      * @param trueHackerrank          List of User objects with Hackerrank accounts
      * @param hackerrankHandleToUserMap   Map of Hackerrank handles to User objects
+     * @throws InterruptedException  if the thread is interrupted while sweeping the trackers
      */
-    private static void scrapeHackerrank(ArrayList<User> trueHackerrank, Map<String, User> hackerrankHandleToUserMap) {
+    private static void scrapeHackerrank(ArrayList<User> trueHackerrank, Map<String, User> hackerrankHandleToUserMap) throws InterruptedException {
         // Scraper logic for Hackerrank
         System.out.println("Hackerrank scraping in progress...");
 
         // create or clear the file for writing
-        File file = new File("hackerrank_ratings.txt");
-        try {
-            FileWriter writer = new FileWriter(file);
-            writer.write(""); // Clearing the file
-            writer.close();
-        } catch (IOException e) {
-            System.err.println("Error clearing file: " + e.getMessage());
+        RatingSink sink = RatingSink.open("hackerrank_ratings.txt");
+
+        // The trackers after a "null" token are not used
+        List<String> trackers = new ArrayList<>();
+        for (String trackerName : SEARCH_TOKENS) {
+            if (trackerName.equals("null")) break;
+            trackers.add(trackerName);
+        }
+        ScrapeOrchestrator.ScrapeProgress progress = ScrapeOrchestrator.progress("hackerrank", trackers.size());
+
+        // Ratings are summed over every tracker, so the trackers are only skipped when every handle is fresh in the cache
+        FetchCache cache = FetchCache.open("hackerrank");
+        if (cache.allFresh(trueHackerrank, User::getHackerrankHandle)) {
+            System.out.println("All Hackerrank ratings are fresh in the cache, skipping the trackers.");
+            for (User user : trueHackerrank) {
+                int rating = cache.fresh(user.getHandle(), user.getHackerrankHandle()).rating;
+                user.setHackerrankRating(rating);
+                sink.write(user.getHandle(), user.getHackerrankHandle(), rating);
+            }
+            cache.close();
+            sink.close();
+            return;
         }
 
         try {
-            // Iterate over search tokens
-            for (String trackerName : SEARCH_TOKENS) {
-                if (trackerName.equals("null")) break;
-                System.out.println(trackerName);
-                // Iterate over leaderboard page offsets
-                for (int j = 0; j < 10000; j += 100) {
-                    try {
-                        // Construct the leaderboard URL
-                        String url = "https://www.hackerrank.com/rest/contests/" + trackerName + "/leaderboard?offset=" + j + "&limit=100";
-                        Document doc = Jsoup.connect(url).ignoreContentType(true).get();
-                        Element body = doc.body();
-                        if (body.text().contains("INVALID URL")) {
-                            throw new ArithmeticException("INVALID URL : " + trackerName);
-                        }
-                        String jsonContent = body.text();
-                        Leaderboard leaderboard = new Gson().fromJson(jsonContent, Leaderboard.class);
-                        List<LeaderboardModel> models = leaderboard.models;
-                        if (models.isEmpty()) break;
-                        // Iterate over leaderboard models
-                        for (LeaderboardModel model : models) {
-                            String userHandle = model.hacker.toLowerCase();
-
-                            // Find user handle in the map
-                            User user = hackerrankHandleToUserMap.get(userHandle);
-                            if (user != null) {
-                                // Update user's Hackerrank rating
-                                if (user.getHackerrankRating() == null) {
-                                    user.setHackerrankRating((int) model.score);
-                                } else {
-                                    user.setHackerrankRating(user.getHackerrankRating() + (int) model.score);
-                                }
-                                System.out.println("Hackerrank rating for " + userHandle + " is: " + (int) model.score);
-                            } else {
-                                System.out.println("User not found: " + userHandle);
-                            }
-                        }
-                    } catch (IOException | ArithmeticException e) {
-                        System.err.println("Error fetching Hackerrank rating for " + trackerName + ": " + e.getMessage());
-                    }
+            // Every tracker sums its scores into a map of its own, and the maps are merged once all trackers are done
+            List<Map<User, Integer>> trackerSums = Collections.synchronizedList(new ArrayList<>());
+            List<String> failedTrackers = Collections.synchronizedList(new ArrayList<>());
+            ScrapeOrchestrator.forEachConcurrently(trackers, HACKERRANK_MAX_TRACKERS_IN_FLIGHT, trackerName -> {
+                Map<User, Integer> sums = new ConcurrentHashMap<>();
+                try {
+                    sweepHackerrankTracker(trackerName, hackerrankHandleToUserMap, sums);
+                } catch (IOException e) {
+                    failedTrackers.add(trackerName);
+                    System.err.println("Error fetching Hackerrank rating for " + trackerName + ", skipping the rest of the tracker: " + e.getMessage());
                 }
+                trackerSums.add(sums);
+                System.out.println("(" + progress.advance() + "/" + progress.getTotal() + ") " + trackerName);
+            });
+
+            for (Map<User, Integer> sums : trackerSums) {
+                sums.forEach(User::addHackerrankRating);
             }
-            // Write Hackerrank ratings to file
+
+            // Write Hackerrank ratings to file. A rating missing part of a failed tracker is not cached, so that the
+            // next run fetches the trackers again.
             for (User user : trueHackerrank) {
                 if (user.getHackerrankRating() != null) {
-                    FileWriter writer = new FileWriter("hackerrank_ratings.txt", true);
-                    writer.write(user.getHandle() + "," + user.getHackerrankHandle() + "," + user.getHackerrankRating() + "\n");
-                    writer.close();
+                    if (failedTrackers.isEmpty()) {
+                        cache.record(user.getHandle(), user.getHackerrankHandle(), user.getHackerrankRating(), null);
+                    }
+                    sink.write(user.getHandle(), user.getHackerrankHandle(), user.getHackerrankRating());
                 }
             }
-        } catch (Exception e) {
-            System.err.println("Error fetching Hackerrank rating: " + e.getMessage());
+            if (!failedTrackers.isEmpty()) {
+                System.err.println("Failed to fetch Hackerrank trackers " + failedTrackers + ", their scores are incomplete.");
+            }
+        } finally {
+            cache.close();
+            sink.close();
         }
     }
 
-    static class Leaderboard {
-        List<LeaderboardModel> models;
-    }
-
-    static class LeaderboardModel {
-        String hacker;
-        double score;
-    }
+    // Maximum number of Hackerrank trackers swept at once
+    private static final int HACKERRANK_MAX_TRACKERS_IN_FLIGHT = 4;
+    // Maximum number of leaderboard pages of one tracker in flight at once
+    private static final int HACKERRANK_MAX_PAGES_IN_FLIGHT = 4;
+    // Attempts per leaderboard page before the tracker is given up
+    private static final int HACKERRANK_MAX_ATTEMPTS = 3;
+    private static final int HACKERRANK_PAGE_SIZE = 100;
+    // Hackerrank does not serve leaderboard offsets past this
+    private static final int HACKERRANK_MAX_OFFSET = 10000;
 
     /**
-     * A method to load data from a CSV file to an SQL database.
+     * Sums the scores of one tracker. The first page reports the number of participants, from which the remaining
+     * pages are planned and fetched concurrently. The first page that cannot be fetched stops the whole tracker.
      *
-     * @param  path   the file path of the CSV to be loaded
+     * @param  trackerName                the tracker (contest slug)
+     * @param  hackerrankHandleToUserMap  map of lowercase Hackerrank handles to User objects
+     * @param  sums                       the score sums of the tracker, by user
+     * @throws IOException           if the tracker does not exist or a page still fails after HACKERRANK_MAX_ATTEMPTS
+     *                               attempts
+     * @throws InterruptedException  if the thread is interrupted while waiting for the pages
      */
-    public static void loadCSVtoSQL(String path) {
-        // Database name
-        String dbName = "cmrit";
-
-        // Initialize database connection and reader
-        Connection conn = null;
-        BufferedReader reader = null;
-
-        try {
-            // Establish database connection
-            conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
-            Statement statement = conn.createStatement();
-
-            // Create table if not exists
-            statement.execute(CREATE_TABLE_SQL);
-
-            // Prepare statement for inserting data
-            PreparedStatement preparedStatement = conn.prepareStatement(INSERT_DATA_SQL);
+    private static void sweepHackerrankTracker(String trackerName, Map<String, User> hackerrankHandleToUserMap, Map<User, Integer> sums) throws IOException, InterruptedException {
+        Leaderboard firstPage = fetchHackerrankPage(trackerName, 0);
+        addHackerrankScores(firstPage, hackerrankHandleToUserMap, sums);
+        if (firstPage.models == null || firstPage.models.isEmpty()) {
+            return;
+        }
 
-            // Read data from CSV file
-            reader = new BufferedReader(new FileReader(path));
-            String line;
-            while ((line = reader.readLine()) != null) {
-                // skip header and last 2 rows
-                if (line.equals("Handle,GeeksForGeeks Handle,Codeforces Handle,LeetCode Handle,CodeChef Handle,HackerRank Handle," + "GeeksForGeeks URL Exists,Codeforces URL Exists,LeetCode URL Exists,CodeChef URL Exists,HackerRank URL Exists"))
-                    continue;
-                if (line.startsWith("None") || line.startsWith("TOTAL")) continue;
-                String[] data = line.split(",");
-                for (int i = 0; i < data.length; i++) {
-                    if (i == 6 || i == 7 || i == 8 || i == 9 || i == 10) {
-                        preparedStatement.setBoolean(i + 1, Boolean.parseBoolean(data[i])); // URL Exists (true or false)
-                    } else {
-                        preparedStatement.setString(i + 1, data[i]);
-                    }
-                }
-                preparedStatement.addBatch();
+        if (firstPage.total <= 0) {
+            // The leaderboard did not report its size, so walk it until the first empty page
+            for (int offset = HACKERRANK_PAGE_SIZE; offset < HACKERRANK_MAX_OFFSET; offset += HACKERRANK_PAGE_SIZE) {
+                Leaderboard page = fetchHackerrankPage(trackerName, offset);
+                if (page.models == null || page.models.isEmpty()) break;
+                addHackerrankScores(page, hackerrankHandleToUserMap, sums);
             }
+            return;
+        }
 
-            // Execute batch insert
-            preparedStatement.executeBatch();
-
-        } catch (SQLException | IOException e) {
-            // Handle errors
-            System.err.println("Error loading CSV data to SQL database: " + e.getMessage());
-            throw new RuntimeException(e);
-        } finally {
-            // Close reader and connection
+        List<Integer> offsets = new ArrayList<>();
+        for (int offset = HACKERRANK_PAGE_SIZE; offset < Math.min(firstPage.total, HACKERRANK_MAX_OFFSET); offset += HACKERRANK_PAGE_SIZE) {
+            offsets.add(offset);
+        }
+        AtomicReference<IOException> fatal = new AtomicReference<>();
+        ScrapeOrchestrator.forEachConcurrently(offsets, HACKERRANK_MAX_PAGES_IN_FLIGHT, offset -> {
+            // Once a page has failed the tracker is incomplete anyway, so the remaining pages are not fetched
+            if (fatal.get() != null) {
+                return;
+            }
             try {
-                if (reader != null) reader.close();
-                if (conn != null) conn.close();
-            } catch (IOException | SQLException e) {
-                System.err.println("Error closing reader or connection: " + e.getMessage());
+                addHackerrankScores(fetchHackerrankPage(trackerName, offset), hackerrankHandleToUserMap, sums);
+            } catch (IOException e) {
+                fatal.compareAndSet(null, e);
             }
+        });
+        if (fatal.get() != null) {
+            throw fatal.get();
         }
     }
-}
-
-/**
- * Represents a user with various handles and ratings on different platforms.
- * The User class provides methods to get and set the user's handles and ratings on platforms such as Codeforces, GeeksforGeeks, LeetCode, Codechef, and Hackerrank.
- * 
- * The User class has the following attributes:
- * - handle: The user's handle or username.
- * - codeforcesHandle: The user's handle on Codeforces platform.
- * - geeksforgeeksHandle: The user's handle on GeeksforGeeks platform.
- * - leetcodeHandle: The user's handle on LeetCode platform.
- * - codechefHandle: The user's handle on Codechef platform.
- * - hackerrankHandle: The user's handle on Hackerrank platform.
- * - codeforcesRating: The user's rating on Codeforces platform.
- * - geeksforgeeksRating: The user's rating on GeeksforGeeks platform.
- * - geeksforgeeksPracticeRating: The user's practice rating on GeeksforGeeks platform.
- * - leetcodeRating: The user's rating on LeetCode platform.
- * - codechefRating: The user's rating on Codechef platform.
- * - hackerrankRating: The user's rating on Hackerrank platform.
- * - percentile: The user's percentile.
- * 
- * The User class provides the following methods:
- * - getHandle(): Returns the user's handle.
- * - getCodeforcesHandle(): Returns the user's handle on Codeforces platform.
- * - getGeeksforgeeksHandle(): Returns the user's handle on GeeksforGeeks platform.
- * - getLeetcodeHandle(): Returns the user's handle on LeetCode platform.
- * - getCodechefHandle(): Returns the user's handle on Codechef platform.
- * - getHackerrankHandle(): Returns the user's handle on Hackerrank platform.
- * - getCodeforcesRating(): Returns the user's rating on Codeforces platform.
- * - getGeeksforgeeksRating(): Returns the user's rating on GeeksforGeeks platform.
- * - getgeeksforgeeksPracticeRating(): Returns the user's practice rating on GeeksforGeeks platform.
- * - getLeetcodeRating(): Returns the user's rating on LeetCode platform.
- * - getCodechefRating(): Returns the user's rating on Codechef platform.
- * - getHackerrankRating(): Returns the user's rating on Hackerrank platform.
- * - getPercentile(): Returns the user's percentile.
- * - setCodeforcesRating(Integer codeforcesRating): Sets the user's rating on Codeforces platform.
- * - setGeeksforgeeksRating(Integer geeksforgeeksRating): Sets the user's rating on GeeksforGeeks platform.
- * - setgeeksforgeeksPracticeRating(Integer geeksforgeeksPracticeRating): Sets the user's practice rating on GeeksforGeeks platform.
- * - setLeetcodeRating(Integer leetcodeRating): Sets the user's rating on LeetCode platform.
- * - setCodechefRating(Integer codechefRating): Sets the user's rating on Codechef platform.
- * - setHackerrankRating(Integer hackerrankRating): Sets the user's rating on Hackerrank platform.
- * - setPercentile(Double percentile): Sets the user's percentile.
- */
-
-class User {
-    private String handle;
-    private String codeforcesHandle;
-    private String geeksforgeeksHandle;
-    private String leetcodeHandle;
-    private String codechefHandle;
-    private String hackerrankHandle;
-
-    private Integer codeforcesRating;
-    private Integer geeksforgeeksRating;
-    private Integer geeksforgeeksPracticeRating;
-    private Integer leetcodeRating;
-    private Integer codechefRating;
-    private Integer hackerrankRating;
-    private Double percentile;
-
-    public User(String handle, String platform, String username) {
-        this.handle = handle;
-        switch (platform) {
-            case "codeforces" -> this.codeforcesHandle = username;
-            case "geeksforgeeks" -> this.geeksforgeeksHandle = username;
-            case "leetcode" -> this.leetcodeHandle = username;
-            case "codechef" -> this.codechefHandle = username;
-            case "hackerrank" -> this.hackerrankHandle = username;
-        }
-        // set all ratings to 0
-        this.codeforcesRating = 0;
-        this.geeksforgeeksRating = 0;
-        this.geeksforgeeksPracticeRating = null;
-        this.leetcodeRating = 0;
-        this.codechefRating = 0;
-        this.hackerrankRating = 0;
-    }
-
-    public User(String handle, String codeforcesHandle, String geeksforgeeksHandle, String leetcodeHandle, String codechefHandle, String hackerrankHandle) {
-        this.handle = handle;
-        this.codeforcesHandle = codeforcesHandle;
-        this.geeksforgeeksHandle = geeksforgeeksHandle;
-        this.leetcodeHandle = leetcodeHandle;
-        this.codechefHandle = codechefHandle;
-        this.hackerrankHandle = hackerrankHandle;
-        // set all ratings to 0
-        this.codeforcesRating = 0;
-        this.geeksforgeeksRating = 0;
-        this.geeksforgeeksPracticeRating = null;
-        this.leetcodeRating = 0;
-        this.codechefRating = 0;
-        this.hackerrankRating = 0;
-    }
-
-    // getters
-
-    public String getHandle() {
-        return handle;
-    }
-
-    public String getCodeforcesHandle() {
-        return codeforcesHandle;
-    }
-
-    public String getGeeksforgeeksHandle() {
-        return geeksforgeeksHandle;
-    }
-
-    public String getLeetcodeHandle() {
-        return leetcodeHandle;
-    }
-
-    public String getCodechefHandle() {
-        return codechefHandle;
-    }
-
-    public String getHackerrankHandle() {
-        return hackerrankHandle;
-    }
-
-    public Integer getCodeforcesRating() {
-        return codeforcesRating;
-    }
-
-    public Integer getGeeksforgeeksRating() {
-        return geeksforgeeksRating;
-    }
-
-    public Integer getgeeksforgeeksPracticeRating() {
-        return geeksforgeeksPracticeRating;
-    }
-
-    public Integer getLeetcodeRating() {
-        return leetcodeRating;
-    }
-
-    public Integer getCodechefRating() {
-        return codechefRating;
-    }
-
-    public Integer getHackerrankRating() {
-        return hackerrankRating;
-    }
-
-    public Double getPercentile() {
-        return percentile;
-    }
-
-    // setters
-
-    public void setCodeforcesRating(Integer codeforcesRating) {
-        this.codeforcesRating = codeforcesRating;
-    }
 
-    public void setGeeksforgeeksRating(Integer geeksforgeeksRating) {
-        this.geeksforgeeksRating = geeksforgeeksRating;
+    /**
+     * Fetches one leaderboard page of a tracker, retrying failed requests. A tracker that does not exist is not
+     * retried.
+     *
+     * @param  trackerName  the tracker (contest slug)
+     * @param  offset       the offset of the page
+     * @return              the parsed page
+     * @throws IOException  if the tracker does not exist or the page still fails after HACKERRANK_MAX_ATTEMPTS attempts
+     */
+    private static Leaderboard fetchHackerrankPage(String trackerName, int offset) throws IOException {
+        String url = PlatformEndpoint.HACKERRANK.url("/rest/contests/" + trackerName + "/leaderboard?offset=" + offset + "&limit=" + HACKERRANK_PAGE_SIZE);
+        IOException lastError = null;
+        for (int attempt = 1; attempt <= HACKERRANK_MAX_ATTEMPTS; attempt++) {
+            Leaderboard leaderboard;
+            try {
+                leaderboard = HttpFetcher.getJson(url, Leaderboard::read);
+            } catch (IOException e) {
+                if (e instanceof HttpFetcher.HttpStatusException status && status.getStatusCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                    throw e;
+                }
+                lastError = e;
+                System.err.println("Error fetching Hackerrank page " + offset + " of " + trackerName + ", attempt " + attempt + ": " + e.getMessage());
+                continue;
+            }
+            if (leaderboard.message != null && leaderboard.message.contains("INVALID URL")) {
+                throw new IOException("INVALID URL : " + trackerName);
+            }
+            return leaderboard;
+        }
+        throw lastError;
     }
 
-    public void setgeeksforgeeksPracticeRating(Integer geeksforgeeksPracticeRating) {
-        this.geeksforgeeksPracticeRating = geeksforgeeksPracticeRating;
+    // Adds the scores of the known users on a leaderboard page to the sums of the tracker
+    private static void addHackerrankScores(Leaderboard page, Map<String, User> hackerrankHandleToUserMap, Map<User, Integer> sums) {
+        if (page.models == null) {
+            return;
+        }
+        for (LeaderboardModel model : page.models) {
+            if (model.hacker == null) continue;
+            String userHandle = model.hacker.toLowerCase();
+
+            // Find user handle in the map
+            User user = hackerrankHandleToUserMap.get(userHandle);
+            if (user != null) {
+                sums.merge(user, (int) model.score, Integer::sum);
+                System.out.println("Hackerrank rating for " + userHandle + " is: " + (int) model.score);
+            }
+        }
     }
 
-    public void setLeetcodeRating(Integer leetcodeRating) {
-        this.leetcodeRating = leetcodeRating;
+    static class Leaderboard {
+        List<LeaderboardModel> models;
+        // Number of participants, 0 if not reported
+        int total;
+        // Set when the contest does not exist
+        String message;
+
+        static Leaderboard read(JsonReader reader) throws IOException {
+            Leaderboard leaderboard = new Leaderboard();
+            JsonStreams.readObject(reader, (name, r) -> {
+                switch (name) {
+                    case "models" -> leaderboard.models = JsonStreams.readArray(r, LeaderboardModel::read);
+                    case "total" -> leaderboard.total = (int) JsonStreams.nextDouble(r, 0);
+                    case "message", "error" -> {
+                        if (r.peek() == JsonToken.STRING) {
+                            leaderboard.message = r.nextString();
+                        } else {
+                            r.skipValue();
+                        }
+                    }
+                    default -> r.skipValue();
+                }
+            });
+            return leaderboard;
+        }
     }
 
-    public void setCodechefRating(Integer codechefRating) {
-        this.codechefRating = codechefRating;
-    }
+    static class LeaderboardModel {
+        String hacker;
+        double score;
 
-    public void setHackerrankRating(Integer hackerrankRating) {
-        this.hackerrankRating = hackerrankRating;
+        static LeaderboardModel read(JsonReader reader) throws IOException {
+            LeaderboardModel model = new LeaderboardModel();
+            JsonStreams.readObject(reader, (name, r) -> {
+                switch (name) {
+                    case "hacker" -> model.hacker = JsonStreams.nextStringOrNull(r);
+                    case "score" -> model.score = JsonStreams.nextDouble(r, 0);
+                    default -> r.skipValue();
+                }
+            });
+            return model;
+        }
     }
 
-    public void setPercentile(Double percentile) {
-        this.percentile = percentile;
+    /**
+     * A method to load data from a CSV file to an SQL database.
+     *
+     * @param  path   the file path of the CSV to be loaded
+     */
+    public static void loadCSVtoSQL(String path) {
+        try {
+            RosterRepository.get().importCsv(path);
+        } catch (SQLException | IOException e) {
+            // Handle errors
+            System.err.println("Error loading CSV data to SQL database: " + e.getMessage());
+            throw new RuntimeException(e);
+        }
     }
 }
@@ -0,0 +1,262 @@
+package org.cmrit;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The FetchCache remembers, per (student handle, platform, platform handle), the last rating we fetched, when we
+ * fetched it and the HTTP validators (ETag / Last-Modified) the platform sent with it. The state lives in the
+ * fetch_state table of the cmrit SQLite database so that it survives between runs.
+ *
+ * Scrapers use it to send conditional requests, which lets us refresh more often without spending more of each
+ * platform's rate limit. Skipping handles fetched recently is opt-in: set the FETCH_CACHE_TTL_HOURS environment
+ * variable to the number of hours a fetched rating stays fresh (default 0, every handle is fetched again).
+ *
+ * Records are kept in memory and written to the shared cmrit connection in batches of {@link #FLUSH_SIZE}, and the
+ * rest on {@link #close}, so a crashed run loses at most the last unflushed batch.
+ */
+class FetchCache implements AutoCloseable {
+
+    private static final String DB_NAME = "cmrit";
+    private static final Duration DEFAULT_TTL = Duration.ZERO;
+    private static final int FLUSH_SIZE = 500;
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS " +
+            "fetch_state (" +
+            "handle TEXT NOT NULL," +
+            "platform TEXT NOT NULL," +
+            "platform_handle TEXT NOT NULL," +
+            "rating INTEGER," +
+            "fetched_at INTEGER," +
+            "etag TEXT," +
+            "last_modified TEXT," +
+            "PRIMARY KEY (handle, platform, platform_handle))";
+
+    private static final String SELECT_SQL = "SELECT handle, platform_handle, rating, fetched_at, etag, last_modified " +
+            "FROM fetch_state WHERE platform = ?";
+
+    private static final String UPSERT_SQL = "REPLACE INTO fetch_state " +
+            "(handle, platform, platform_handle, rating, fetched_at, etag, last_modified) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final String platform;
+    private final Duration ttl;
+    private final SqliteDatabase db;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Records not written to the database yet
+    private List<Record> pending = new ArrayList<>();
+
+    private FetchCache(String platform, Duration ttl) throws SQLException {
+        this.platform = platform;
+        this.ttl = ttl;
+        this.db = SqliteDatabase.shared(DB_NAME);
+        // The connection is shared with the other platforms, so load inside a transaction to keep their writes out
+        db.transaction(tx -> {
+            tx.execute(CREATE_TABLE_SQL);
+            PreparedStatement select = tx.prepare(SELECT_SQL);
+            select.setString(1, platform);
+            try (ResultSet resultSet = select.executeQuery()) {
+                while (resultSet.next()) {
+                    Entry entry = new Entry(resultSet.getInt("rating"), resultSet.getLong("fetched_at"),
+                            resultSet.getString("etag"), resultSet.getString("last_modified"));
+                    entries.put(key(resultSet.getString("handle"), resultSet.getString("platform_handle")), entry);
+                }
+            }
+        });
+    }
+
+    /**
+     * Opens the cache of a platform and loads all of its entries.
+     *
+     * @param  platform  the platform name, e.g. "codechef"
+     * @return           the cache of the platform
+     */
+    static FetchCache open(String platform) {
+        try {
+            return new FetchCache(platform, configuredTtl());
+        } catch (SQLException e) {
+            System.err.println("Error opening fetch cache for " + platform + ": " + e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Duration configuredTtl() {
+        String hours = System.getenv("FETCH_CACHE_TTL_HOURS");
+        if (hours == null || hours.isBlank()) {
+            return DEFAULT_TTL;
+        }
+        try {
+            return Duration.ofMinutes((long) (Double.parseDouble(hours.trim()) * 60));
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid FETCH_CACHE_TTL_HOURS '" + hours + "', using " + DEFAULT_TTL.toHours() + " hours");
+            return DEFAULT_TTL;
+        }
+    }
+
+    /**
+     * Returns the cached entry of a handle, or null if it was never fetched.
+     *
+     * @param  handle          the student handle
+     * @param  platformHandle  the handle on the platform
+     * @return                 the cached entry or null
+     */
+    Entry lookup(String handle, String platformHandle) {
+        return entries.get(key(handle, platformHandle));
+    }
+
+    /**
+     * Returns the cached entry of a handle if it was fetched within the TTL, otherwise null.
+     *
+     * @param  handle          the student handle
+     * @param  platformHandle  the handle on the platform
+     * @return                 the fresh cached entry or null
+     */
+    Entry fresh(String handle, String platformHandle) {
+        Entry entry = lookup(handle, platformHandle);
+        return entry != null && entry.isFresh(ttl) ? entry : null;
+    }
+
+    /**
+     * Checks whether every user of a sweep-based platform was fetched within the TTL, in which case the whole
+     * sweep can be skipped.
+     *
+     * @param  users           the users of the platform
+     * @param  platformHandle  extracts the platform handle of a user
+     * @return                 true if every user has a fresh entry
+     */
+    boolean allFresh(Collection<User> users, Function<User, String> platformHandle) {
+        if (users.isEmpty()) {
+            return false;
+        }
+        for (User user : users) {
+            if (fresh(user.getHandle(), platformHandle.apply(user)) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the conditional request headers (If-None-Match / If-Modified-Since) for a cached entry.
+     *
+     * @param  entry  the cached entry, may be null
+     * @return        the headers to send, empty if the entry has no validators
+     */
+    static Map<String, String> conditionalHeaders(Entry entry) {
+        Map<String, String> headers = new HashMap<>();
+        if (entry != null) {
+            if (entry.etag != null) headers.put("If-None-Match", entry.etag);
+            if (entry.lastModified != null) headers.put("If-Modified-Since", entry.lastModified);
+        }
+        return headers;
+    }
+
+    /**
+     * Records a freshly fetched rating together with the validators of the response it came from.
+     *
+     * @param  handle          the student handle
+     * @param  platformHandle  the handle on the platform
+     * @param  rating          the fetched rating
+     * @param  response        the response the rating came from, may be null for batched or swept platforms
+     */
+    void record(String handle, String platformHandle, int rating, HttpFetcher.Response response) {
+        String etag = response == null ? null : response.headers().firstValue("ETag").orElse(null);
+        String lastModified = response == null ? null : response.headers().firstValue("Last-Modified").orElse(null);
+        // A 304 may omit the validators, in which case the previous ones are still valid
+        Entry previous = lookup(handle, platformHandle);
+        if (response != null && response.statusCode() == 304 && previous != null) {
+            if (etag == null) etag = previous.etag;
+            if (lastModified == null) lastModified = previous.lastModified;
+        }
+        Entry entry = new Entry(rating, System.currentTimeMillis(), etag, lastModified);
+        entries.put(key(handle, platformHandle), entry);
+        List<Record> batch = null;
+        synchronized (this) {
+            pending.add(new Record(handle, platformHandle, entry));
+            if (pending.size() >= FLUSH_SIZE) {
+                batch = pending;
+                pending = new ArrayList<>();
+            }
+        }
+        if (batch != null) {
+            write(batch);
+        }
+    }
+
+    /**
+     * Writes the records not written yet. The shared connection itself stays open for the rest of the process.
+     */
+    @Override
+    public void close() {
+        List<Record> batch;
+        synchronized (this) {
+            batch = pending;
+            pending = new ArrayList<>();
+        }
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(List<Record> batch) {
+        try {
+            db.writeBatched(UPSERT_SQL, batch, (upsert, record) -> {
+                upsert.setString(1, record.handle);
+                upsert.setString(2, platform);
+                upsert.setString(3, record.platformHandle);
+                upsert.setInt(4, record.entry.rating);
+                upsert.setLong(5, record.entry.fetchedAt);
+                upsert.setString(6, record.entry.etag);
+                upsert.setString(7, record.entry.lastModified);
+            });
+        } catch (SQLException e) {
+            System.err.println("Error recording fetch state of " + batch.size() + " handles on " + platform + ": " + e.getMessage());
+        }
+    }
+
+    private static String key(String handle, String platformHandle) {
+        return handle + '\u0000' + platformHandle;
+    }
+
+    // One fetched rating waiting to be written
+    private static class Record {
+        final String handle;
+        final String platformHandle;
+        final Entry entry;
+
+        Record(String handle, String platformHandle, Entry entry) {
+            this.handle = handle;
+            this.platformHandle = platformHandle;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * The last known state of one handle on one platform.
+     */
+    static class Entry {
+        final int rating;
+        final long fetchedAt;
+        final String etag;
+        final String lastModified;
+
+        Entry(int rating, long fetchedAt, String etag, String lastModified) {
+            this.rating = rating;
+            this.fetchedAt = fetchedAt;
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+
+        boolean isFresh(Duration ttl) {
+            return System.currentTimeMillis() - fetchedAt < ttl.toMillis();
+        }
+    }
+}
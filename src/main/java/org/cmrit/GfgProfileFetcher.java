@@ -0,0 +1,297 @@
+package org.cmrit;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The GfgProfileFetcher reads the overall coding score of a GeeksforGeeks profile, for the handles that are missing
+ * from the institute stats page. The score is first read over plain HTTP, from the profile API and then from the
+ * profile page itself, so the common case costs one request and no browser at all.
+ *
+ * Only when neither yields a score is a headless Firefox used. The browsers come from a small pool of sessions that
+ * are started lazily, reused for every later profile and logged in at most once: their login cookies are stored in
+ * gfg_cookies.txt and restored by the next run. Pages are read with explicit waits for the score element instead of
+ * fixed sleeps.
+ */
+class GfgProfileFetcher implements AutoCloseable {
+
+    // Paths below PlatformEndpoint.GFG_AUTH_API and PlatformEndpoint.GFG_AUTH
+    private static final String PROFILE_API_PATH = "/api-get/user-profile-info/?handle=";
+    private static final String PROFILE_PATH = "/user/";
+    private static final String LOGIN_PATH = "/";
+
+    // The score follows its label, possibly separated by tags
+    private static final Pattern SCORE_PATTERN = Pattern.compile("Overall Coding Score\\s*(?:<[^>]*>\\s*)*(\\d+)");
+    private static final By SCORE_ELEMENT = By.xpath("//span[contains(text(), 'Overall Coding Score')]/following-sibling::br/following-sibling::span");
+
+    // Maximum number of browser sessions running at once
+    private static final int BROWSER_POOL_SIZE = 2;
+    // Longest wait for a page element to appear
+    private static final Duration PAGE_TIMEOUT = Duration.ofSeconds(15);
+    private static final File COOKIE_FILE = new File("gfg_cookies.txt");
+
+    private final BrowserPool browsers = new BrowserPool(BROWSER_POOL_SIZE);
+
+    /**
+     * Reads the overall coding score of a profile.
+     *
+     * @param  handle  the GFG handle
+     * @return         the coding score
+     * @throws IOException           if the score cannot be read from the API, the page or a browser
+     * @throws InterruptedException  if the thread is interrupted while waiting for a browser
+     */
+    int fetchCodingScore(String handle) throws IOException, InterruptedException {
+        String encoded = URLEncoder.encode(handle, StandardCharsets.UTF_8);
+        try {
+            Integer score = HttpFetcher.getJson(PlatformEndpoint.GFG_AUTH_API.url(PROFILE_API_PATH + encoded), GfgProfileFetcher::readProfileScore);
+            if (score != null) {
+                return score;
+            }
+        } catch (IOException e) {
+            System.err.println("Error fetching GFG profile API for " + handle + ": " + e.getMessage());
+        }
+
+        try {
+            HttpFetcher.Response response = HttpFetcher.get(PlatformEndpoint.GFG_AUTH.url(PROFILE_PATH + encoded));
+            if (response.isSuccessful()) {
+                Matcher matcher = SCORE_PATTERN.matcher(response.body());
+                if (matcher.find()) {
+                    return Integer.parseInt(matcher.group(1));
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error fetching GFG profile page for " + handle + ": " + e.getMessage());
+        }
+
+        System.out.println("GFG profile of " + handle + " has no score over HTTP, using a browser...");
+        return browsers.fetchCodingScore(handle);
+    }
+
+    // The data.score field of the profile API, or null if the profile was not found
+    private static Integer readProfileScore(JsonReader reader) throws IOException {
+        Integer[] score = {null};
+        JsonStreams.readObject(reader, (name, r) -> {
+            if (name.equals("data") && r.peek() == JsonToken.BEGIN_OBJECT) {
+                JsonStreams.readObject(r, (field, value) -> {
+                    if (field.equals("score") && value.peek() == JsonToken.NUMBER) {
+                        score[0] = (int) value.nextDouble();
+                    } else {
+                        value.skipValue();
+                    }
+                });
+            } else {
+                r.skipValue();
+            }
+        });
+        return score[0];
+    }
+
+    @Override
+    public void close() {
+        browsers.close();
+    }
+
+    /**
+     * A bounded pool of headless Firefox sessions. Sessions are started on first use, up to the pool size, and are
+     * handed from one profile to the next instead of being started per profile. A semaphore with one permit per
+     * session bounds the callers holding a browser, so a caller that gets a permit while no session is idle starts a
+     * new one, e.g. to replace a session that crashed.
+     */
+    private static class BrowserPool {
+        private final Semaphore permits;
+        private final Queue<WebDriver> idle = new ConcurrentLinkedQueue<>();
+        private final List<WebDriver> sessions = new ArrayList<>();
+        private volatile boolean closed;
+
+        BrowserPool(int size) {
+            this.permits = new Semaphore(size, true);
+        }
+
+        int fetchCodingScore(String handle) throws IOException, InterruptedException {
+            WebDriver driver = borrow();
+            boolean broken = false;
+            try {
+                HostRateLimiter.forHost(URI.create(PlatformEndpoint.GFG_AUTH.url(PROFILE_PATH)).getAuthority()).acquire();
+                driver.get(PlatformEndpoint.GFG_AUTH.url(PROFILE_PATH + URLEncoder.encode(handle, StandardCharsets.UTF_8)));
+                String text = new WebDriverWait(driver, PAGE_TIMEOUT)
+                        .until(ExpectedConditions.presenceOfElementLocated(SCORE_ELEMENT))
+                        .getText();
+                try {
+                    return Integer.parseInt(text.trim());
+                } catch (NumberFormatException e) {
+                    throw new IOException("Unexpected GFG coding score '" + text + "'", e);
+                }
+            } catch (TimeoutException e) {
+                throw new IOException("No coding score on the GFG profile of " + handle, e);
+            } catch (WebDriverException e) {
+                broken = true;
+                throw new IOException("Browser error on the GFG profile of " + handle + ": " + e.getMessage(), e);
+            } finally {
+                release(driver, broken);
+            }
+        }
+
+        // Waits for a permit, then takes an idle session or starts a new one if none is idle
+        private WebDriver borrow() throws IOException, InterruptedException {
+            permits.acquire();
+            if (closed) {
+                // Pass the permit on, so every other waiter wakes up and fails as well
+                permits.release();
+                throw new IOException("Browser pool is closed");
+            }
+            WebDriver driver = idle.poll();
+            if (driver != null) {
+                return driver;
+            }
+            try {
+                driver = startSession();
+            } catch (IOException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+            synchronized (this) {
+                if (closed) {
+                    quit(driver);
+                    permits.release();
+                    throw new IOException("Browser pool is closed");
+                }
+                sessions.add(driver);
+            }
+            return driver;
+        }
+
+        private void release(WebDriver driver, boolean broken) {
+            if (broken || closed) {
+                // A crashed session is replaced by a fresh one on a later borrow
+                synchronized (this) {
+                    sessions.remove(driver);
+                }
+                quit(driver);
+            } else {
+                idle.add(driver);
+            }
+            permits.release();
+        }
+
+        private WebDriver startSession() throws IOException {
+            FirefoxOptions options = new FirefoxOptions();
+            options.addArguments("-headless");
+            WebDriver driver;
+            try {
+                driver = new FirefoxDriver(options);
+            } catch (WebDriverException e) {
+                throw new IOException("Error starting Firefox: " + e.getMessage(), e);
+            }
+            try {
+                driver.get(PlatformEndpoint.GFG_AUTH.url(LOGIN_PATH));
+                if (!restoreCookies(driver)) {
+                    login(driver);
+                }
+            } catch (WebDriverException e) {
+                // Profiles are public, so a failed login still leaves a usable session
+                System.err.println("Error logging in to GFG: " + e.getMessage());
+            }
+            return driver;
+        }
+
+        private static void login(WebDriver driver) {
+            String gfgUsername = System.getenv("GFG_USERNAME");
+            String gfgPassword = System.getenv("GFG_PASSWORD");
+            if (gfgUsername == null || gfgPassword == null) {
+                return;
+            }
+            WebDriverWait wait = new WebDriverWait(driver, PAGE_TIMEOUT);
+            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("luser"))).sendKeys(gfgUsername);
+            driver.findElement(By.id("password")).sendKeys(gfgPassword);
+            driver.findElement(By.className("signin-button")).click();
+            // The login form goes away once the sign-in went through
+            wait.until(ExpectedConditions.invisibilityOfElementLocated(By.id("luser")));
+            saveCookies(driver);
+        }
+
+        // Adds the cookies of an earlier login to the session, returns false if there are none left to use
+        private static synchronized boolean restoreCookies(WebDriver driver) {
+            if (!COOKIE_FILE.exists()) {
+                return false;
+            }
+            int restored = 0;
+            try (BufferedReader reader = new BufferedReader(new FileReader(COOKIE_FILE))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    // name, value, domain, path, expiry (epoch millis, 0 for a session cookie), secure; tab separated
+                    String[] data = line.split("\t", -1);
+                    if (data.length != 6) continue;
+                    long expiry = Long.parseLong(data[4]);
+                    if (expiry != 0 && expiry < System.currentTimeMillis()) continue;
+                    driver.manage().addCookie(new Cookie(data[0], data[1], data[2], data[3],
+                            expiry == 0 ? null : new Date(expiry), Boolean.parseBoolean(data[5])));
+                    restored++;
+                }
+            } catch (IOException | NumberFormatException | WebDriverException e) {
+                System.err.println("Error restoring GFG cookies: " + e.getMessage());
+                return false;
+            }
+            return restored > 0;
+        }
+
+        private static synchronized void saveCookies(WebDriver driver) {
+            try (FileWriter writer = new FileWriter(COOKIE_FILE)) {
+                for (Cookie cookie : driver.manage().getCookies()) {
+                    long expiry = cookie.getExpiry() == null ? 0 : cookie.getExpiry().getTime();
+                    writer.write(cookie.getName() + "\t" + cookie.getValue() + "\t" + cookie.getDomain() + "\t" +
+                            cookie.getPath() + "\t" + expiry + "\t" + cookie.isSecure() + "\n");
+                }
+            } catch (IOException e) {
+                System.err.println("Error saving GFG cookies: " + e.getMessage());
+            }
+        }
+
+        private static void quit(WebDriver driver) {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                System.err.println("Error closing browser: " + e.getMessage());
+            }
+        }
+
+        void close() {
+            closed = true;
+            synchronized (this) {
+                for (WebDriver driver : sessions) {
+                    quit(driver);
+                }
+                sessions.clear();
+            }
+            idle.clear();
+            // Wake every caller still waiting for a browser; each one fails and passes its permit on
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package org.cmrit;
+
+import java.io.File;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The HistoryStore keeps the history of the leaderboard in Leaderboards/history.db, so rank movement and rating
+ * trajectories can be queried without diffing old spreadsheets.
+ *
+ * Every build_leaderboard run adds one row to history_runs. For every user and every {@link #SERIES} (the platform
+ * ratings, the rank and the percentile in hundredths) an observation is stored only when the value changed since the
+ * previous run, as the difference to the previous value; the first observation is the difference to 0, so the sum of
+ * the deltas of a series is always its value, and a series without observations is 0. history_latest holds the current
+ * value of every series, so a run only has to compare against it instead of summing the observations. A user who drops
+ * off the leaderboard gets rank 0.
+ *
+ * The database therefore grows with the number of changes, not with the roster size times the number of runs.
+ * Observations are keyed by (handle, series, run_id) and indexed by run_id, so the trajectory of a handle and the
+ * changes of one run are both index lookups.
+ */
+class HistoryStore {
+
+    static final String DB_NAME = "Leaderboards/history.db";
+
+    // Series recorded per user, stored by their index in this list
+    static final List<String> SERIES = List.of("codeforces", "geeksforgeeks", "geeksforgeeks_practice", "leetcode", "codechef", "hackerrank", "rank", "percentile");
+    static final int RANK = SERIES.indexOf("rank");
+    static final int PERCENTILE = SERIES.indexOf("percentile");
+
+    private static final String CREATE_RUNS_SQL = "CREATE TABLE IF NOT EXISTS history_runs (" +
+            "run_id INTEGER PRIMARY KEY," +
+            "built_at INTEGER NOT NULL," +
+            "users INTEGER NOT NULL," +
+            "changes INTEGER NOT NULL)";
+
+    private static final String CREATE_OBSERVATIONS_SQL = "CREATE TABLE IF NOT EXISTS history_observations (" +
+            "handle TEXT NOT NULL," +
+            "series INTEGER NOT NULL," +
+            "run_id INTEGER NOT NULL," +
+            "delta INTEGER NOT NULL," +
+            "PRIMARY KEY (handle, series, run_id)) WITHOUT ROWID";
+
+    private static final String CREATE_OBSERVATIONS_RUN_INDEX_SQL = "CREATE INDEX IF NOT EXISTS history_observations_run " +
+            "ON history_observations (run_id, series)";
+
+    private static final String CREATE_LATEST_SQL = "CREATE TABLE IF NOT EXISTS history_latest (" +
+            "handle TEXT NOT NULL," +
+            "series INTEGER NOT NULL," +
+            "value INTEGER NOT NULL," +
+            "PRIMARY KEY (handle, series)) WITHOUT ROWID";
+
+    private static final String NEXT_RUN_SQL = "SELECT COALESCE(MAX(run_id), 0) + 1 FROM history_runs";
+    private static final String LAST_RUN_SQL = "SELECT COALESCE(MAX(run_id), 0) FROM history_runs";
+    private static final String INSERT_RUN_SQL = "INSERT INTO history_runs (run_id, built_at, users, changes) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_LATEST_SQL = "SELECT handle, series, value FROM history_latest";
+    private static final String INSERT_OBSERVATION_SQL = "INSERT INTO history_observations (handle, series, run_id, delta) VALUES (?, ?, ?, ?)";
+    private static final String UPSERT_LATEST_SQL = "REPLACE INTO history_latest (handle, series, value) VALUES (?, ?, ?)";
+
+    private static final String SELECT_RANK_CHANGES_SQL = "SELECT l.handle, l.value, COALESCE(o.delta, 0) " +
+            "FROM history_latest l LEFT JOIN history_observations o " +
+            "ON o.handle = l.handle AND o.series = l.series AND o.run_id = ? " +
+            "WHERE l.series = ? AND (l.value != 0 OR o.delta IS NOT NULL)";
+
+    private static final String SELECT_TRAJECTORY_SQL = "SELECT o.series, o.run_id, r.built_at, o.delta " +
+            "FROM history_observations o JOIN history_runs r ON r.run_id = o.run_id " +
+            "WHERE o.handle = ? ORDER BY o.series, o.run_id";
+
+    private final SqliteDatabase db;
+
+    private HistoryStore(SqliteDatabase db) throws SQLException {
+        this.db = db;
+        db.execute(CREATE_RUNS_SQL);
+        db.execute(CREATE_OBSERVATIONS_SQL);
+        db.execute(CREATE_OBSERVATIONS_RUN_INDEX_SQL);
+        db.execute(CREATE_LATEST_SQL);
+    }
+
+    /**
+     * Opens the history database, creating its tables on first use.
+     *
+     * @return  the history store
+     * @throws SQLException  if the database cannot be opened
+     */
+    static HistoryStore open() throws SQLException {
+        File directory = new File(DB_NAME).getParentFile();
+        if (!directory.exists() && !directory.mkdirs()) {
+            System.err.println("Error creating directory: " + directory);
+        }
+        return new HistoryStore(SqliteDatabase.shared(DB_NAME));
+    }
+
+    /**
+     * Records a run: adds a run row and an observation for every series that changed since the previous run.
+     *
+     * @param  leaderboard  the ranked users, with their percentiles set
+     * @return              the id of the new run
+     * @throws SQLException  if the run cannot be written, in which case nothing is written
+     */
+    long recordRun(List<User> leaderboard) throws SQLException {
+        long[] runId = {0};
+        db.transaction(tx -> {
+            try (ResultSet resultSet = tx.prepare(NEXT_RUN_SQL).executeQuery()) {
+                runId[0] = resultSet.next() ? resultSet.getLong(1) : 1;
+            }
+
+            // Current value of every series, by handle
+            Map<String, long[]> latest = new HashMap<>();
+            try (ResultSet resultSet = tx.prepare(SELECT_LATEST_SQL).executeQuery()) {
+                while (resultSet.next()) {
+                    latest.computeIfAbsent(resultSet.getString(1), handle -> new long[SERIES.size()])[resultSet.getInt(2)] = resultSet.getLong(3);
+                }
+            }
+
+            List<Change> changes = new ArrayList<>();
+            Set<String> ranked = new HashSet<>();
+            long[] none = new long[SERIES.size()];
+            for (int i = 0; i < leaderboard.size(); i++) {
+                User user = leaderboard.get(i);
+                ranked.add(user.getHandle());
+                long[] current = latest.getOrDefault(user.getHandle(), none);
+                long[] values = values(user, i + 1);
+                for (int series = 0; series < values.length; series++) {
+                    if (current[series] != values[series]) {
+                        changes.add(new Change(user.getHandle(), series, values[series], values[series] - current[series]));
+                    }
+                }
+            }
+            // Users who are no longer on the leaderboard lose their rank
+            for (Map.Entry<String, long[]> entry : latest.entrySet()) {
+                long rank = entry.getValue()[RANK];
+                if (rank != 0 && !ranked.contains(entry.getKey())) {
+                    changes.add(new Change(entry.getKey(), RANK, 0, -rank));
+                }
+            }
+
+            PreparedStatement insertRun = tx.prepare(INSERT_RUN_SQL);
+            insertRun.setLong(1, runId[0]);
+            insertRun.setLong(2, System.currentTimeMillis());
+            insertRun.setInt(3, leaderboard.size());
+            insertRun.setInt(4, changes.size());
+            insertRun.executeUpdate();
+
+            tx.writeBatched(INSERT_OBSERVATION_SQL, changes, (statement, change) -> {
+                statement.setString(1, change.handle);
+                statement.setInt(2, change.series);
+                statement.setLong(3, runId[0]);
+                statement.setLong(4, change.delta);
+            });
+            tx.writeBatched(UPSERT_LATEST_SQL, changes, (statement, change) -> {
+                statement.setString(1, change.handle);
+                statement.setInt(2, change.series);
+                statement.setLong(3, change.value);
+            });
+            System.out.println("Leaderboard history run " + runId[0] + " recorded with " + changes.size() + " changes.");
+        });
+        // Leave no commit in the write-ahead log, so the database file can be cached on its own
+        db.checkpoint();
+        return runId[0];
+    }
+
+    /**
+     * Returns the rank of every user in the last run together with their rank in the run before it.
+     *
+     * @return  the rank changes, in no particular order
+     * @throws SQLException  if the history cannot be read
+     */
+    List<RankChange> rankChanges() throws SQLException {
+        long lastRun = lastRun();
+        List<RankChange> changes = new ArrayList<>();
+        PreparedStatement select = db.prepare(SELECT_RANK_CHANGES_SQL);
+        select.setLong(1, lastRun);
+        select.setInt(2, RANK);
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                int rank = resultSet.getInt(2);
+                int delta = resultSet.getInt(3);
+                changes.add(new RankChange(resultSet.getString(1), rank, rank - delta));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the value of every series of a handle at each run where it changed.
+     *
+     * @param  handle  the student handle
+     * @return         the points, ordered by series and run
+     * @throws SQLException  if the history cannot be read
+     */
+    List<Point> trajectory(String handle) throws SQLException {
+        List<Point> points = new ArrayList<>();
+        PreparedStatement select = db.prepare(SELECT_TRAJECTORY_SQL);
+        select.setString(1, handle);
+        try (ResultSet resultSet = select.executeQuery()) {
+            int series = -1;
+            long value = 0;
+            while (resultSet.next()) {
+                if (resultSet.getInt(1) != series) {
+                    series = resultSet.getInt(1);
+                    value = 0;
+                }
+                value += resultSet.getLong(4);
+                points.add(new Point(SERIES.get(series), resultSet.getLong(2), resultSet.getLong(3), value));
+            }
+        }
+        return points;
+    }
+
+    private long lastRun() throws SQLException {
+        try (ResultSet resultSet = db.prepare(LAST_RUN_SQL).executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    // The values of a user in SERIES order
+    private static long[] values(User user, int rank) {
+        long[] values = new long[SERIES.size()];
+        values[0] = valueOf(user.getCodeforcesRating());
+        values[1] = valueOf(user.getGeeksforgeeksRating());
+        values[2] = valueOf(user.getgeeksforgeeksPracticeRating());
+        values[3] = valueOf(user.getLeetcodeRating());
+        values[4] = valueOf(user.getCodechefRating());
+        values[5] = valueOf(user.getHackerrankRating());
+        values[RANK] = rank;
+        values[PERCENTILE] = user.getPercentile() == null ? 0 : Math.round(user.getPercentile() * 100);
+        return values;
+    }
+
+    private static long valueOf(Integer rating) {
+        return rating == null ? 0 : rating;
+    }
+
+    // A series of a handle whose value changed in the run being recorded
+    private static class Change {
+        final String handle;
+        final int series;
+        final long value;
+        final long delta;
+
+        Change(String handle, int series, long value, long delta) {
+            this.handle = handle;
+            this.series = series;
+            this.value = value;
+            this.delta = delta;
+        }
+    }
+
+    /**
+     * The rank of a user in the last run and in the run before it; 0 means not ranked.
+     */
+    static class RankChange {
+        final String handle;
+        final int rank;
+        final int previousRank;
+
+        RankChange(String handle, int rank, int previousRank) {
+            this.handle = handle;
+            this.rank = rank;
+            this.previousRank = previousRank;
+        }
+
+        // Positive when the user moved up
+        int movement() {
+            return rank == 0 || previousRank == 0 ? 0 : previousRank - rank;
+        }
+    }
+
+    /**
+     * The value of one series of a handle from a run on.
+     */
+    static class Point {
+        final String series;
+        final long runId;
+        final long builtAt;
+        final long value;
+
+        Point(String series, long runId, long builtAt, long value) {
+            this.series = series;
+            this.runId = runId;
+            this.builtAt = builtAt;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package org.cmrit;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The HostRateLimiter is a token bucket shared by every thread that talks to one host. Callers take a token with
+ * {@link #acquire()} before each request and report the outcome with {@link #onResponse(int, Optional)}.
+ *
+ * The rate adapts to what the host tolerates: an overload response (429, 500, 502, 503 or 524) halves the rate and,
+ * if the host sent a Retry-After header, pauses the host until then. Every run of successful responses then probes
+ * the rate back up in small additive steps, so each platform settles at the highest rate it actually accepts.
+ */
+class HostRateLimiter {
+
+    // Starting and maximum request rates (requests per second) for the hosts we scrape
+    private static final Map<String, double[]> HOST_RATES = Map.of(
+            "codeforces.com", new double[]{0.5, 0.5},
+            "leetcode.com", new double[]{2, 4},
+            "code-chef-rating-api.vercel.app", new double[]{0.5, 4},
+            "practiceapi.geeksforgeeks.org", new double[]{2, 8},
+            "auth.geeksforgeeks.org", new double[]{1, 4},
+            "authapi.geeksforgeeks.org", new double[]{1, 4},
+            "www.hackerrank.com", new double[]{2, 8}
+    );
+    private static final double[] DEFAULT_RATE = {2, 8};
+
+    // The rate never drops below this many requests per second
+    private static final double MIN_RATE = 1.0 / 60;
+    // Multiplicative decrease on an overload response
+    private static final double DECREASE_FACTOR = 0.5;
+    // Number of consecutive successes before the rate is raised by one step
+    private static final int PROBE_INTERVAL = 20;
+    // Fraction of the maximum rate added on every probe step
+    private static final double PROBE_STEP = 0.1;
+    // Longest Retry-After we are willing to honour
+    private static final Duration MAX_RETRY_AFTER = Duration.ofMinutes(5);
+
+    private static final Map<String, HostRateLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    private final String host;
+    private final double maxRate;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double rate;
+    private double tokens;
+    private long lastRefillNanos;
+    private long pausedUntilNanos;
+    private int successesSinceChange;
+
+    private HostRateLimiter(String host, double initialRate, double maxRate) {
+        this.host = host;
+        this.rate = initialRate;
+        this.maxRate = maxRate;
+        this.tokens = 1;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the shared limiter of a host, creating it on first use.
+     *
+     * @param  host  the host name with its port unless it is the default one, e.g. "leetcode.com" or
+     *               "127.0.0.1:9000"
+     * @return       the limiter of the host
+     */
+    static HostRateLimiter forHost(String host) {
+        return LIMITERS.computeIfAbsent(host, h -> {
+            double[] rates = HOST_RATES.getOrDefault(h, DEFAULT_RATE);
+            return new HostRateLimiter(h, rates[0], rates[1]);
+        });
+    }
+
+    /**
+     * Sets the starting and maximum rate of a host that is not one of the hosts we scrape, e.g. a simulated
+     * platform. Must be called before the first request to the host.
+     *
+     * @param  host         the host name with its port, as for {@link #forHost(String)}
+     * @param  initialRate  the starting rate, in requests per second
+     * @param  maxRate      the maximum rate, in requests per second
+     */
+    static void configure(String host, double initialRate, double maxRate) {
+        LIMITERS.put(host, new HostRateLimiter(host, initialRate, maxRate));
+    }
+
+    /**
+     * Blocks until a request to this host is allowed.
+     *
+     * @throws InterruptedException  if the thread is interrupted while waiting
+     */
+    void acquire() throws InterruptedException {
+        while (true) {
+            long waitNanos;
+            lock.lock();
+            try {
+                long now = System.nanoTime();
+                refill(now);
+                if (now < pausedUntilNanos) {
+                    waitNanos = pausedUntilNanos - now;
+                } else if (tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                } else {
+                    waitNanos = (long) ((1 - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+                }
+            } finally {
+                lock.unlock();
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, TimeUnit.MILLISECONDS.toNanos(1)));
+        }
+    }
+
+    /**
+     * Adjusts the rate after a response from this host.
+     *
+     * @param  statusCode  the HTTP status of the response
+     * @param  retryAfter  the Retry-After header of the response, if any
+     */
+    void onResponse(int statusCode, Optional<String> retryAfter) {
+        if (isOverloaded(statusCode)) {
+            onOverload(retryAfter.map(HostRateLimiter::parseRetryAfter).orElse(null));
+        } else if (statusCode < 400) {
+            onSuccess();
+        }
+    }
+
+    /**
+     * Slows down after a request timed out, which usually means the host is overloaded.
+     */
+    void onTimeout() {
+        onOverload(null);
+    }
+
+    private void onSuccess() {
+        lock.lock();
+        try {
+            if (++successesSinceChange >= PROBE_INTERVAL && rate < maxRate) {
+                rate = Math.min(maxRate, rate + maxRate * PROBE_STEP);
+                successesSinceChange = 0;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onOverload(Duration retryAfter) {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            rate = Math.max(MIN_RATE, rate * DECREASE_FACTOR);
+            tokens = 0;
+            successesSinceChange = 0;
+            // Without a Retry-After, wait for one interval of the new rate before the next request
+            long pauseNanos = retryAfter != null
+                    ? Math.min(retryAfter.toNanos(), MAX_RETRY_AFTER.toNanos())
+                    : (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            pausedUntilNanos = Math.max(pausedUntilNanos, now + pauseNanos);
+            System.err.println("Rate limited by " + host + ", slowing down to " + String.format("%.2f", rate) + " requests/second");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Adds the tokens earned since the last refill; the bucket holds at most one second worth of requests
+    private void refill(long now) {
+        double capacity = Math.max(1, rate);
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * rate / TimeUnit.SECONDS.toNanos(1));
+        lastRefillNanos = now;
+    }
+
+    static boolean isOverloaded(int statusCode) {
+        return statusCode == 429 || statusCode == 500 || statusCode == 502 || statusCode == 503 || statusCode == 524;
+    }
+
+    // Retry-After is either a number of seconds or an HTTP date
+    private static Duration parseRetryAfter(String value) {
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(value.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                Duration delay = Duration.between(ZonedDateTime.now(), ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ex) {
+                return null;
+            }
+        }
+    }
+}
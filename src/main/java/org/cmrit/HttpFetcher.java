@@ -0,0 +1,337 @@
+package org.cmrit;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * The HttpFetcher is the single HTTP layer shared by every scraper. It wraps one {@link HttpClient} so that
+ * connections are pooled and kept alive per host, HTTP/2 is negotiated where the host supports it, and
+ * gzip/deflate responses are requested and decoded transparently.
+ *
+ * JSON endpoints can be decoded straight from the response stream with {@link #sendJson}, see {@link JsonStreams}.
+ *
+ * Every request first waits for the {@link HostRateLimiter} of its host and then goes through the global request
+ * budget of {@link ScrapeOrchestrator}, so concurrent scrapers never exceed what a host tolerates nor the configured
+ * number of requests in flight. Each response is reported back to the host's limiter so that it can adapt.
+ */
+class HttpFetcher {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(15);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(60);
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/122.0.0.0 Safari/537.36";
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(CONNECT_TIMEOUT)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private HttpFetcher() {
+    }
+
+    /**
+     * Sends a GET request.
+     *
+     * @param  url  the URL to fetch
+     * @return      the decoded response
+     * @throws IOException  if the request fails
+     */
+    static Response get(String url) throws IOException {
+        return send(request(url).GET().build());
+    }
+
+    /**
+     * Sends a GET request with extra headers.
+     *
+     * @param  url      the URL to fetch
+     * @param  headers  headers to add to the request
+     * @return          the decoded response
+     * @throws IOException  if the request fails
+     */
+    static Response get(String url, Map<String, String> headers) throws IOException {
+        HttpRequest.Builder builder = request(url).GET();
+        headers.forEach(builder::setHeader);
+        return send(builder.build());
+    }
+
+    /**
+     * Sends a GET request and decodes the JSON response while it streams in.
+     *
+     * @param  url      the URL to fetch
+     * @param  decoder  the decoder of the response
+     * @return          the decoded response
+     * @throws IOException  if the request fails, the status is not 2xx or the body is not the expected JSON
+     */
+    static <T> T getJson(String url, JsonStreams.Decoder<T> decoder) throws IOException {
+        return sendJson(request(url).GET().build(), decoder).ensureSuccess().value();
+    }
+
+    /**
+     * Sends a POST request with a JSON body and decodes the JSON response while it streams in.
+     *
+     * @param  url      the URL to post to
+     * @param  json     the JSON request body
+     * @param  headers  headers to add to the request
+     * @param  decoder  the decoder of the response
+     * @return          the decoded response
+     * @throws IOException  if the request fails, the status is not 2xx or the body is not the expected JSON
+     */
+    static <T> T postJson(String url, String json, Map<String, String> headers, JsonStreams.Decoder<T> decoder) throws IOException {
+        return sendJson(jsonPost(url, json, headers), decoder).ensureSuccess().value();
+    }
+
+    private static HttpRequest jsonPost(String url, String json, Map<String, String> headers) throws IOException {
+        HttpRequest.Builder builder = request(url)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json, StandardCharsets.UTF_8));
+        headers.forEach(builder::setHeader);
+        return builder.build();
+    }
+
+    /**
+     * Sends a request and blocks until the whole response has been read.
+     *
+     * @param  request  the request to send
+     * @return          the decoded response
+     * @throws IOException  if the request fails or the thread is interrupted
+     */
+    static Response send(HttpRequest request) throws IOException {
+        HostRateLimiter limiter = awaitRateLimit(request);
+        return ScrapeOrchestrator.withRequestPermit(() -> {
+            try {
+                HttpResponse<byte[]> response = CLIENT.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                limiter.onResponse(response.statusCode(), response.headers().firstValue("Retry-After"));
+                return new Response(response.statusCode(), response.headers(), decode(response.headers(), response.body()));
+            } catch (HttpTimeoutException e) {
+                limiter.onTimeout();
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while fetching " + request.uri(), e);
+            }
+        });
+    }
+
+    /**
+     * Sends a request and decodes its JSON body straight from the response stream, without reading the body into
+     * memory first. The body of a non-2xx response is decoded as well when it is JSON (APIs such as Codeforces
+     * explain their errors in it); otherwise its value is null.
+     *
+     * @param  request  the request to send
+     * @param  decoder  the decoder of the response
+     * @return          the status and decoded body
+     * @throws IOException  if the request fails, the thread is interrupted or the body is not the expected JSON
+     */
+    static <T> JsonResponse<T> sendJson(HttpRequest request, JsonStreams.Decoder<T> decoder) throws IOException {
+        HostRateLimiter limiter = awaitRateLimit(request);
+        return ScrapeOrchestrator.withRequestPermit(() -> {
+            HttpResponse<InputStream> response;
+            try {
+                response = CLIENT.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            } catch (HttpTimeoutException e) {
+                limiter.onTimeout();
+                throw e;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while fetching " + request.uri(), e);
+            }
+            limiter.onResponse(response.statusCode(), response.headers().firstValue("Retry-After"));
+            boolean successful = response.statusCode() >= 200 && response.statusCode() < 300;
+            boolean json = response.headers().firstValue("Content-Type").orElse("").contains("json");
+            try (InputStream body = response.body()) {
+                T value = successful || json ? JsonStreams.decode(decode(response.headers(), body), decoder) : null;
+                return new JsonResponse<>(response.statusCode(), value);
+            }
+        });
+    }
+
+    // Waits until the host of the request may be contacted again and returns its limiter
+    private static HostRateLimiter awaitRateLimit(HttpRequest request) throws IOException {
+        HostRateLimiter limiter = HostRateLimiter.forHost(request.uri().getAuthority());
+        try {
+            limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the rate limit of " + request.uri().getAuthority(), e);
+        }
+        return limiter;
+    }
+
+    /**
+     * Creates a request builder with the default headers and timeouts applied.
+     *
+     * @param  url  the URL of the request
+     * @return      a request builder
+     * @throws IOException  if the URL is malformed
+     */
+    static HttpRequest.Builder request(String url) throws IOException {
+        return HttpRequest.newBuilder(toUri(url))
+                .timeout(READ_TIMEOUT)
+                .header("User-Agent", USER_AGENT)
+                .header("Accept-Encoding", "gzip, deflate");
+    }
+
+    // Builds a URI, quoting characters (e.g. in handles) that are not legal in a raw URI
+    private static URI toUri(String url) throws IOException {
+        try {
+            return URI.create(url);
+        } catch (IllegalArgumentException e) {
+            int schemeEnd = url.indexOf("://");
+            if (schemeEnd < 0) {
+                throw new IOException("Malformed URL: " + url, e);
+            }
+            int pathStart = url.indexOf('/', schemeEnd + 3);
+            int queryStart = url.indexOf('?');
+            String authority = url.substring(schemeEnd + 3, pathStart < 0 ? (queryStart < 0 ? url.length() : queryStart) : pathStart);
+            String path = pathStart < 0 ? "" : url.substring(pathStart, queryStart < 0 ? url.length() : queryStart);
+            String query = queryStart < 0 ? null : url.substring(queryStart + 1);
+            try {
+                return new URI(url.substring(0, schemeEnd), authority, path, query, null);
+            } catch (URISyntaxException ex) {
+                throw new IOException("Malformed URL: " + url, ex);
+            }
+        }
+    }
+
+    // Wraps a streamed body in a gzip or deflate decoder according to its Content-Encoding
+    private static InputStream decode(HttpHeaders headers, InputStream body) throws IOException {
+        String encoding = headers.firstValue("Content-Encoding").orElse("").toLowerCase();
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(body);
+            case "deflate" -> new InflaterInputStream(body);
+            default -> body;
+        };
+    }
+
+    // Decodes a gzip or deflate encoded body
+    private static byte[] decode(HttpHeaders headers, byte[] body) throws IOException {
+        String encoding = headers.firstValue("Content-Encoding").orElse("").toLowerCase();
+        if (body.length == 0 || encoding.isEmpty() || encoding.equals("identity")) {
+            return body;
+        }
+        InputStream raw = new ByteArrayInputStream(body);
+        InputStream decoded = switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(raw);
+            case "deflate" -> new InflaterInputStream(raw);
+            default -> null;
+        };
+        if (decoded == null) {
+            return body;
+        }
+        try (decoded) {
+            return decoded.readAllBytes();
+        }
+    }
+
+    /**
+     * A fully read and decoded HTTP response.
+     */
+    static class Response {
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        Response(int statusCode, HttpHeaders headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        int statusCode() {
+            return statusCode;
+        }
+
+        HttpHeaders headers() {
+            return headers;
+        }
+
+        boolean isSuccessful() {
+            return statusCode >= 200 && statusCode < 300;
+        }
+
+        String body() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns this response if it has a 2xx status.
+         *
+         * @return  this response
+         * @throws HttpStatusException  if the status is not 2xx
+         */
+        Response ensureSuccess() throws HttpStatusException {
+            if (!isSuccessful()) {
+                throw new HttpStatusException(statusCode);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * A response whose JSON body was decoded while it streamed in.
+     */
+    static class JsonResponse<T> {
+        private final int statusCode;
+        private final T value;
+
+        JsonResponse(int statusCode, T value) {
+            this.statusCode = statusCode;
+            this.value = value;
+        }
+
+        int statusCode() {
+            return statusCode;
+        }
+
+        // The decoded body, or null if the response was an error without a JSON body
+        T value() {
+            return value;
+        }
+
+        /**
+         * Returns this response if it has a 2xx status.
+         *
+         * @return  this response
+         * @throws HttpStatusException  if the status is not 2xx
+         */
+        JsonResponse<T> ensureSuccess() throws HttpStatusException {
+            if (statusCode < 200 || statusCode >= 300) {
+                throw new HttpStatusException(statusCode);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Thrown when a response has an unexpected HTTP status.
+     */
+    static class HttpStatusException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private final int statusCode;
+
+        HttpStatusException(int statusCode) {
+            super("HTTP error fetching URL. Status=" + statusCode);
+            this.statusCode = statusCode;
+        }
+
+        int getStatusCode() {
+            return statusCode;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.cmrit;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JsonStreams decodes JSON responses straight from the response stream with Gson's {@link JsonReader}, without
+ * first copying the body into a String or a DOM. Each response model has a small {@link Decoder} that picks out the
+ * fields the scrapers need and skips everything else, which keeps large pages (such as the GFG institute page of
+ * up to 100000 students) from being materialised in memory several times over.
+ */
+class JsonStreams {
+
+    private JsonStreams() {
+    }
+
+    /**
+     * Reads one JSON value into a model.
+     */
+    @FunctionalInterface
+    interface Decoder<T> {
+        T decode(JsonReader reader) throws IOException;
+    }
+
+    /**
+     * Handles one field of an object. The handler must consume the value, or skip it with
+     * {@link JsonReader#skipValue()}.
+     */
+    @FunctionalInterface
+    interface FieldHandler {
+        void field(String name, JsonReader reader) throws IOException;
+    }
+
+    /**
+     * Decodes a UTF-8 JSON stream.
+     *
+     * @param  in       the stream, which is not closed
+     * @param  decoder  the decoder of the top-level value
+     * @return          the decoded model
+     * @throws IOException  if the stream cannot be read or is not the expected JSON
+     */
+    static <T> T decode(InputStream in, Decoder<T> decoder) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            return decoder.decode(reader);
+        } catch (IllegalStateException | NumberFormatException e) {
+            // JsonReader reports an unexpected token type as an IllegalStateException
+            throw new IOException("Unexpected JSON: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Calls the handler for every field of an object. A null value is treated as an empty object.
+     *
+     * @param  reader   the reader, positioned at the object
+     * @param  handler  the field handler
+     * @throws IOException  if the JSON cannot be read
+     */
+    static void readObject(JsonReader reader, FieldHandler handler) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            handler.field(reader.nextName(), reader);
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Reads every element of an array. A null value is treated as an empty array.
+     *
+     * @param  reader   the reader, positioned at the array
+     * @param  element  the decoder of one element
+     * @return          the decoded elements
+     * @throws IOException  if the JSON cannot be read
+     */
+    static <T> List<T> readArray(JsonReader reader, Decoder<T> element) throws IOException {
+        List<T> elements = new ArrayList<>();
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return elements;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            elements.add(element.decode(reader));
+        }
+        reader.endArray();
+        return elements;
+    }
+
+    /**
+     * Reads a string, or returns null for a JSON null.
+     */
+    static String nextStringOrNull(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    /**
+     * Reads a number, or returns the default for a JSON null.
+     */
+    static double nextDouble(JsonReader reader, double defaultValue) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return defaultValue;
+        }
+        return reader.nextDouble();
+    }
+}
@@ -0,0 +1,148 @@
+package org.cmrit;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.text.DecimalFormat;
+import java.util.List;
+
+/**
+ * The LeaderboardExporter writes the ranked leaderboard to Leaderboards/CurrentCMRITLeaderboard2026.xlsx.
+ *
+ * The sheet is written with POI's streaming {@link SXSSFWorkbook}, which keeps only a window of
+ * {@link #ROW_WINDOW} rows in memory and flushes older rows to a temporary file, so the heap no longer grows with
+ * the roster. Column widths are computed from the longest value written to each column rather than with
+ * autoSizeColumn, which would have to measure every cell again with AWT font metrics (and cannot see flushed rows).
+ */
+class LeaderboardExporter {
+
+    static final String OUTPUT_FILE = "Leaderboards//CurrentCMRITLeaderboard2026.xlsx";
+
+    // Rows kept in memory before they are flushed to disk
+    private static final int ROW_WINDOW = 200;
+
+    private static final String[] COLUMNS = {"Rank", "Handle", "Codeforces_Handle", "Codeforces_Rating", "Geeksforgeeks_Handle", "Geeksforgeeks_Rating", "Geeksforgeeks_Practice_Rating", "Leetcode_Handle", "Leetcode_Rating", "Codechef_Handle", "Codechef_Rating", "Hackerrank_Handle", "Hackerrank_Rating", "Percentile"};
+
+    private static final short HEADER_FONT_POINTS = 20;
+    private static final short CELL_FONT_POINTS = 14;
+    // Column widths are in 1/256 of the width of a character of the default 11 point font
+    private static final double DEFAULT_FONT_POINTS = 11;
+    private static final int MAX_COLUMN_WIDTH = 255 * 256;
+
+    private LeaderboardExporter() {
+    }
+
+    /**
+     * Writes the leaderboard sheet, one row per user in rank order, and prints the number of rows written.
+     *
+     * @param  leaderboard  the ranked users, with their percentiles set
+     */
+    static void export(List<User> leaderboard) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        try {
+            Sheet sheet = workbook.createSheet("Leaderboard");
+            CellStyle headerStyle = createStyle(workbook, HEADER_FONT_POINTS, IndexedColors.LIGHT_TURQUOISE1);
+            CellStyle cellStyle = createStyle(workbook, CELL_FONT_POINTS, IndexedColors.TURQUOISE);
+
+            // Widths in characters, scaled by the font size of the row the value was written in
+            double[] widths = new double[COLUMNS.length];
+
+            // Create a header row with the column names
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < COLUMNS.length; i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellStyle(headerStyle);
+                cell.setCellValue(COLUMNS[i]);
+                widths[i] = Math.max(widths[i], COLUMNS[i].length() * HEADER_FONT_POINTS / DEFAULT_FONT_POINTS);
+            }
+
+            int rank = 1;
+            DecimalFormat df = new DecimalFormat("#.##");
+            for (User user : leaderboard) {
+                String handle = user.getHandle();
+                int codeforcesRating = user.getCodeforcesRating();
+                int codechefRating = user.getCodechefRating();
+                int leetcodeRating = user.getLeetcodeRating();
+                int geeksforgeeksRating = user.getGeeksforgeeksRating();
+                int geeksforgeeksPracticeRating = user.getgeeksforgeeksPracticeRating();
+                int hackerrankRating = user.getHackerrankRating();
+                String percentile = String.valueOf(Double.parseDouble(df.format(user.getPercentile())));
+
+                Row row = sheet.createRow(rank);
+                Object[] data = {rank, handle, user.getCodeforcesHandle(), codeforcesRating, user.getGeeksforgeeksHandle(), geeksforgeeksRating, geeksforgeeksPracticeRating, user.getLeetcodeHandle(), leetcodeRating, user.getCodechefHandle(), codechefRating, user.getHackerrankHandle(), hackerrankRating, percentile};
+                for (int i = 0; i < data.length; i++) {
+                    Cell cell = row.createCell(i);
+                    cell.setCellStyle(cellStyle);
+                    if (data[i] instanceof String) {
+                        cell.setCellValue((String) data[i]);
+                    } else if (data[i] instanceof Integer) {
+                        cell.setCellValue((Integer) data[i]);
+                    }
+                    if (data[i] != null) {
+                        widths[i] = Math.max(widths[i], data[i].toString().length() * CELL_FONT_POINTS / DEFAULT_FONT_POINTS);
+                    }
+                }
+                rank++;
+            }
+
+            for (int i = 0; i < COLUMNS.length; i++) {
+                // Two characters of padding for the thick borders
+                sheet.setColumnWidth(i, Math.min((int) Math.ceil((widths[i] + 2) * 256), MAX_COLUMN_WIDTH));
+            }
+
+            // Check if the directory exists, if not create it
+            File directory = new File("Leaderboards");
+            if (!directory.exists()) {
+                boolean dirCreated = directory.mkdir();
+                if (!dirCreated) {
+                    System.err.println("Error creating directory: Leaderboards");
+                }
+            }
+
+            // Write the workbook to a file
+            try (FileOutputStream fileOut = new FileOutputStream(OUTPUT_FILE)) {
+                workbook.write(fileOut);
+                System.out.println("Leaderboard spreadsheet exported: " + leaderboard.size() + " rows.");
+            } catch (IOException e) {
+                System.err.println("Error writing leaderboard to file: " + e.getMessage());
+            }
+        } finally {
+            // Delete the temporary files of the flushed rows
+            workbook.dispose();
+            try {
+                workbook.close();
+            } catch (IOException e) {
+                System.err.println("Error closing leaderboard workbook: " + e.getMessage());
+            }
+        }
+    }
+
+    // A bold, centered, bordered and filled cell style
+    private static CellStyle createStyle(SXSSFWorkbook workbook, short fontPoints, IndexedColors fill) {
+        Font font = workbook.createFont();
+        font.setBold(true);
+        font.setFontHeightInPoints(fontPoints);
+
+        CellStyle style = workbook.createCellStyle();
+        style.setAlignment(HorizontalAlignment.CENTER);
+        style.setFont(font);
+        style.setFillForegroundColor(fill.getIndex());
+        style.setBorderBottom(BorderStyle.THICK);
+        style.setBorderTop(BorderStyle.THICK);
+        style.setBorderLeft(BorderStyle.THICK);
+        style.setBorderRight(BorderStyle.THICK);
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return style;
+    }
+}
@@ -0,0 +1,185 @@
+package org.cmrit;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The LeaderboardJsonExporter writes the ranked leaderboard for the web page as paged, columnar JSON under
+ * Leaderboards/json, so the page can render its first screen from one small file instead of downloading and
+ * parsing the whole spreadsheet:
+ * <pre>
+ *   manifest.json           column names, row count, page size and the file and hash of every page
+ *   page-0000.json(.gz)     PAGE_SIZE rows as one array per column, plain and gzip-compressed
+ * </pre>
+ * The output is deterministic: the same leaderboard always produces the same bytes (the gzip header carries no
+ * timestamp), files whose content did not change are not rewritten, and pages past the end are removed. Unchanged
+ * pages therefore keep their hash and stay cached.
+ */
+class LeaderboardJsonExporter {
+
+    static final String OUTPUT_DIRECTORY = "Leaderboards/json";
+
+    // Rows per page
+    static final int PAGE_SIZE = 100;
+
+    // Field names used by the grid of app.js
+    private static final String[] COLUMNS = {"Rank", "Handle", "Codeforces_Handle", "Codeforces_Rating", "GFG_Handle", "GFG_Contest_Score", "GFG_Practice_Score", "Leetcode_Handle", "Leetcode_Rating", "Codechef_Handle", "Codechef_Rating", "HackerRank_Handle", "HackerRank_Practice_Score", "Percentile"};
+
+    private LeaderboardJsonExporter() {
+    }
+
+    /**
+     * Writes the manifest and the pages of the leaderboard.
+     *
+     * @param  leaderboard  the ranked users, with their percentiles set
+     */
+    static void export(List<User> leaderboard) {
+        try {
+            Path directory = Path.of(OUTPUT_DIRECTORY);
+            Files.createDirectories(directory);
+
+            int pages = (leaderboard.size() + PAGE_SIZE - 1) / PAGE_SIZE;
+            List<String> pageFiles = new ArrayList<>();
+            List<String> pageHashes = new ArrayList<>();
+            for (int page = 0; page < pages; page++) {
+                int from = page * PAGE_SIZE;
+                List<User> rows = leaderboard.subList(from, Math.min(from + PAGE_SIZE, leaderboard.size()));
+                byte[] json = pageJson(rows, from).getBytes(StandardCharsets.UTF_8);
+                String file = String.format("page-%04d.json", page);
+                writeIfChanged(directory.resolve(file), json);
+                writeIfChanged(directory.resolve(file + ".gz"), gzip(json));
+                pageFiles.add(file);
+                pageHashes.add(sha256(json));
+            }
+            removeStalePages(directory, pages);
+
+            byte[] manifest = manifestJson(leaderboard.size(), pageFiles, pageHashes).getBytes(StandardCharsets.UTF_8);
+            writeIfChanged(directory.resolve("manifest.json"), manifest);
+            System.out.println("Leaderboard JSON exported: " + leaderboard.size() + " rows in " + pages + " pages.");
+        } catch (IOException | NoSuchAlgorithmException e) {
+            System.err.println("Error writing leaderboard JSON: " + e.getMessage());
+        }
+    }
+
+    // One page as {"offset": n, "columns": [[...], ...]}, the columns in COLUMNS order
+    private static String pageJson(List<User> rows, int offset) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(out)) {
+            writer.beginObject();
+            writer.name("offset").value(offset);
+            writer.name("columns").beginArray();
+            for (int column = 0; column < COLUMNS.length; column++) {
+                writer.beginArray();
+                for (int i = 0; i < rows.size(); i++) {
+                    writeCell(writer, rows.get(i), offset + i + 1, column);
+                }
+                writer.endArray();
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+        return out.toString();
+    }
+
+    private static void writeCell(JsonWriter writer, User user, int rank, int column) throws IOException {
+        switch (column) {
+            case 0 -> writer.value(rank);
+            case 1 -> writer.value(user.getHandle());
+            case 2 -> writer.value(user.getCodeforcesHandle());
+            case 3 -> writer.value(user.getCodeforcesRating());
+            case 4 -> writer.value(user.getGeeksforgeeksHandle());
+            case 5 -> writer.value(user.getGeeksforgeeksRating());
+            case 6 -> writer.value(user.getgeeksforgeeksPracticeRating());
+            case 7 -> writer.value(user.getLeetcodeHandle());
+            case 8 -> writer.value(user.getLeetcodeRating());
+            case 9 -> writer.value(user.getCodechefHandle());
+            case 10 -> writer.value(user.getCodechefRating());
+            case 11 -> writer.value(user.getHackerrankHandle());
+            case 12 -> writer.value(user.getHackerrankRating());
+            // Two decimals, like the spreadsheet; BigDecimal keeps the text independent of the locale
+            case 13 -> writer.jsonValue(BigDecimal.valueOf(user.getPercentile()).setScale(2, RoundingMode.HALF_EVEN).stripTrailingZeros().toPlainString());
+            default -> throw new IllegalArgumentException("Unknown column " + column);
+        }
+    }
+
+    private static String manifestJson(int total, List<String> pageFiles, List<String> pageHashes) throws IOException {
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(out)) {
+            writer.setIndent("  ");
+            writer.beginObject();
+            writer.name("version").value(1);
+            writer.name("total").value(total);
+            writer.name("pageSize").value(PAGE_SIZE);
+            writer.name("columns").beginArray();
+            for (String column : COLUMNS) {
+                writer.value(column);
+            }
+            writer.endArray();
+            writer.name("pages").beginArray();
+            for (int i = 0; i < pageFiles.size(); i++) {
+                writer.beginObject();
+                writer.name("file").value(pageFiles.get(i));
+                writer.name("sha256").value(pageHashes.get(i));
+                writer.endObject();
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+        return out.toString() + "\n";
+    }
+
+    // GZIPOutputStream writes no timestamp or file name, so equal input gives equal output
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] data) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+    }
+
+    private static void writeIfChanged(Path file, byte[] content) throws IOException {
+        if (Files.exists(file) && Arrays.equals(Files.readAllBytes(file), content)) {
+            return;
+        }
+        Files.write(file, content);
+    }
+
+    // Deletes the pages of an earlier, longer leaderboard
+    private static void removeStalePages(Path directory, int pages) {
+        File[] files = directory.toFile().listFiles((dir, name) -> name.startsWith("page-"));
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            int end = name.indexOf('.');
+            try {
+                if (end > 5 && Integer.parseInt(name.substring(5, end)) >= pages && !file.delete()) {
+                    System.err.println("Error deleting stale leaderboard page " + name);
+                }
+            } catch (NumberFormatException e) {
+                // Not one of our pages
+            }
+        }
+    }
+}
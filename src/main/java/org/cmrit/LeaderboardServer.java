@@ -0,0 +1,353 @@
+package org.cmrit;
+
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * The LeaderboardServer answers read-only leaderboard queries over HTTP from an in-memory index of the last built
+ * leaderboard. It runs on the JDK HttpServer with one virtual thread per request and binds to localhost.
+ * <pre>
+ *   GET /                              {"total": n, "platforms": [...]}
+ *   GET /top?n=10                      the first n rows
+ *   GET /ranks?from=1&amp;to=100           the rows ranked from..to (inclusive)
+ *   GET /handle/{handle}               the rank, ratings and per-platform ranks of one handle
+ *   GET /platform/{name}?from=1&amp;to=100 the rows ranked from..to on one platform
+ * </pre>
+ * The index is built once and never changes: the users sorted by rank, a handle to rank hash index and, per platform,
+ * the users sorted by rating with their competition ranks (equal ratings share a rank). Every row and every handle
+ * answer is serialized to JSON bytes while the index is built, so a request only looks up or concatenates bytes.
+ */
+class LeaderboardServer {
+
+    static final int DEFAULT_PORT = 8080;
+
+    // Largest number of rows one request may ask for
+    private static final int MAX_ROWS = 1000;
+
+    private static final byte[] NOT_FOUND = "{\"error\":\"not found\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] METHOD_NOT_ALLOWED = "{\"error\":\"method not allowed\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final RankedIndex index;
+    private final HttpServer server;
+
+    private LeaderboardServer(RankedIndex index, int port) throws IOException {
+        this.index = index;
+        // The headers and the body are separate writes; without TCP_NODELAY, Nagle's algorithm holds the body back
+        // until the client's delayed ACK on every kept-alive connection
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", handler(this::route));
+    }
+
+    /**
+     * Indexes the leaderboard and starts serving it.
+     *
+     * @param  leaderboard  the users in rank order, with their percentiles set
+     * @param  port         the port to listen on
+     * @return              the running server
+     * @throws IOException  if the port cannot be bound
+     */
+    static LeaderboardServer start(List<User> leaderboard, int port) throws IOException {
+        LeaderboardServer server = new LeaderboardServer(new RankedIndex(leaderboard), port);
+        server.server.start();
+        System.out.println("Serving " + leaderboard.size() + " leaderboard rows on http://localhost:" + server.server.getAddress().getPort() + "/");
+        return server;
+    }
+
+    void stop() {
+        server.stop(0);
+    }
+
+    // Answers one GET request for a raw (still percent-encoded) path with a status and a JSON body
+    private Response route(String path, Map<String, String> query) {
+        String[] parts = path.split("/", -1);
+        if (path.equals("/")) {
+            return new Response(200, index.summary);
+        }
+        if (path.equals("/top")) {
+            int n = intParameter(query, "n", 10);
+            return new Response(200, index.rows(1, n));
+        }
+        if (path.equals("/ranks")) {
+            int from = intParameter(query, "from", 1);
+            return new Response(200, index.rows(from, intParameter(query, "to", from + 99)));
+        }
+        if (parts.length == 3 && parts[1].equals("handle")) {
+            byte[] details = index.details(URLDecoder.decode(parts[2], StandardCharsets.UTF_8));
+            return details == null ? new Response(404, NOT_FOUND) : new Response(200, details);
+        }
+        if (parts.length == 3 && parts[1].equals("platform")) {
+            int platform = ScoringEngine.PLATFORM_NAMES.indexOf(parts[2]);
+            if (platform < 0) {
+                return new Response(404, NOT_FOUND);
+            }
+            int from = intParameter(query, "from", 1);
+            return new Response(200, index.platformRows(platform, from, intParameter(query, "to", from + 99)));
+        }
+        return new Response(404, NOT_FOUND);
+    }
+
+    private static int intParameter(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    /**
+     * A status code and a serialized JSON body.
+     */
+    private static class Response {
+        final int status;
+        final byte[] body;
+
+        Response(int status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Route {
+        Response answer(String path, Map<String, String> query);
+    }
+
+    private static HttpHandler handler(Route route) {
+        return exchange -> {
+            try (exchange) {
+                Response response;
+                if (!exchange.getRequestMethod().equals("GET")) {
+                    response = new Response(405, METHOD_NOT_ALLOWED);
+                } else {
+                    try {
+                        response = route.answer(exchange.getRequestURI().getRawPath(), parseQuery(exchange.getRequestURI().getRawQuery()));
+                    } catch (IllegalArgumentException e) {
+                        response = new Response(400, json(writer -> writer.beginObject().name("error").value(e.getMessage()).endObject()));
+                    }
+                }
+                send(exchange, response);
+            }
+        };
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(response.status, response.body.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(response.body);
+        }
+    }
+
+    @FunctionalInterface
+    private interface JsonBody {
+        void write(JsonWriter writer) throws IOException;
+    }
+
+    private static byte[] json(JsonBody body) {
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(out)) {
+            body.write(writer);
+        } catch (IOException e) {
+            // A StringWriter does not fail
+            throw new UncheckedIOException(e);
+        }
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Two decimals, like the spreadsheet
+    private static double rounded(Double percentile) {
+        return percentile == null ? 0 : Math.round(percentile * 100) / 100.0;
+    }
+
+    /**
+     * The immutable, pre-serialized index of one leaderboard.
+     */
+    static class RankedIndex {
+        private final Map<String, Integer> rankOfHandle;
+        // rows[r - 1] and details[r - 1] are the JSON of the user ranked r
+        private final byte[][] rows;
+        private final byte[][] details;
+        // platformRows[p] is the JSON of the users by decreasing rating on platform p
+        private final byte[][][] platformRows;
+        private final byte[] summary;
+
+        RankedIndex(List<User> leaderboard) {
+            User[] users = leaderboard.toArray(new User[0]);
+            int n = users.length;
+            int[][] ratings = new int[n][ScoringEngine.PLATFORMS];
+            rankOfHandle = new HashMap<>(n * 2);
+            rows = new byte[n][];
+            for (int i = 0; i < n; i++) {
+                ScoringEngine.ratingsOf(users[i], ratings[i]);
+                rankOfHandle.put(key(users[i].getHandle()), i + 1);
+                rows[i] = row(users[i], i + 1, ratings[i]);
+            }
+
+            // Per platform: indexes by decreasing rating, ties in overall rank order, with competition ranks
+            platformRows = new byte[ScoringEngine.PLATFORMS][][];
+            int[][] platformRank = new int[ScoringEngine.PLATFORMS][n];
+            for (int p = 0; p < ScoringEngine.PLATFORMS; p++) {
+                int platform = p;
+                Integer[] order = new Integer[n];
+                for (int i = 0; i < n; i++) {
+                    order[i] = i;
+                }
+                Arrays.sort(order, Comparator.comparingInt((Integer i) -> -ratings[i][platform]).thenComparingInt(i -> i));
+                platformRows[p] = new byte[n][];
+                for (int position = 0; position < n; position++) {
+                    int i = order[position];
+                    boolean tied = position > 0 && ratings[order[position - 1]][p] == ratings[i][p];
+                    int rank = tied ? platformRank[p][order[position - 1]] : position + 1;
+                    platformRank[p][i] = rank;
+                    platformRows[p][position] = platformRow(users[i], rank, ratings[i][p], i + 1);
+                }
+            }
+
+            details = new byte[n][];
+            for (int i = 0; i < n; i++) {
+                int user = i;
+                details[i] = json(writer -> {
+                    writer.beginObject();
+                    writeRowFields(writer, users[user], user + 1, ratings[user]);
+                    writer.name("platformRanks").beginObject();
+                    for (int p = 0; p < ScoringEngine.PLATFORMS; p++) {
+                        writer.name(ScoringEngine.PLATFORM_NAMES.get(p)).value(platformRank[p][user]);
+                    }
+                    writer.endObject();
+                    writer.endObject();
+                });
+            }
+
+            summary = json(writer -> {
+                writer.beginObject();
+                writer.name("total").value(n);
+                writer.name("platforms").beginArray();
+                for (String platform : ScoringEngine.PLATFORM_NAMES) {
+                    writer.value(platform);
+                }
+                writer.endArray();
+                writer.endObject();
+            });
+        }
+
+        /**
+         * Returns the rows ranked from..to, clipped to the leaderboard and to MAX_ROWS rows.
+         */
+        byte[] rows(int from, int to) {
+            return page(rows, from, to);
+        }
+
+        /**
+         * Returns the rows ranked from..to on one platform, clipped like {@link #rows}.
+         */
+        byte[] platformRows(int platform, int from, int to) {
+            return page(platformRows[platform], from, to);
+        }
+
+        /**
+         * Returns the details of a handle, or null if it is not on the leaderboard. Handles are matched ignoring case.
+         */
+        byte[] details(String handle) {
+            Integer rank = rankOfHandle.get(key(handle));
+            return rank == null ? null : details[rank - 1];
+        }
+
+        // Concatenates the pre-serialized rows of positions from..to (1-based, inclusive) into a JSON array
+        private static byte[] page(byte[][] serialized, int from, int to) {
+            if (from < 1 || to < from) {
+                throw new IllegalArgumentException("Invalid range: " + from + ".." + to);
+            }
+            int start = from - 1;
+            int end = (int) Math.min(Math.min(to, serialized.length), (long) start + MAX_ROWS);
+            int length = 2;
+            for (int i = start; i < end; i++) {
+                length += serialized[i].length + 1;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+            out.write('[');
+            for (int i = start; i < end; i++) {
+                if (i > start) {
+                    out.write(',');
+                }
+                out.write(serialized[i], 0, serialized[i].length);
+            }
+            out.write(']');
+            return out.toByteArray();
+        }
+
+        private static String key(String handle) {
+            return handle.toLowerCase(Locale.ROOT);
+        }
+
+        private static byte[] row(User user, int rank, int[] ratings) {
+            return json(writer -> {
+                writer.beginObject();
+                writeRowFields(writer, user, rank, ratings);
+                writer.endObject();
+            });
+        }
+
+        private static void writeRowFields(JsonWriter writer, User user, int rank, int[] ratings) throws IOException {
+            writer.name("rank").value(rank);
+            writer.name("handle").value(user.getHandle());
+            writer.name("percentile").value(rounded(user.getPercentile()));
+            writer.name("ratings").beginObject();
+            for (int p = 0; p < ScoringEngine.PLATFORMS; p++) {
+                writer.name(ScoringEngine.PLATFORM_NAMES.get(p)).value(ratings[p]);
+            }
+            writer.endObject();
+        }
+
+        private static byte[] platformRow(User user, int rank, int rating, int overallRank) {
+            return json(writer -> {
+                writer.beginObject();
+                writer.name("rank").value(rank);
+                writer.name("handle").value(user.getHandle());
+                writer.name("rating").value(rating);
+                writer.name("overallRank").value(overallRank);
+                writer.endObject();
+            });
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.cmrit;
+
+/**
+ * The PlatformEndpoint holds the base URL (scheme, host and port) of every host the scrapers talk to. Each one
+ * defaults to the live site and can be pointed elsewhere with its environment variable, e.g.
+ * CODEFORCES_BASE_URL=http://localhost:9000; the paths below the base URL stay those of the live API.
+ *
+ * The simulate mode redirects every endpoint to its {@link PlatformSimulator} in-process with {@link #redirect}.
+ */
+enum PlatformEndpoint {
+    CODECHEF("CODECHEF_BASE_URL", "https://code-chef-rating-api.vercel.app"),
+    CODEFORCES("CODEFORCES_BASE_URL", "https://codeforces.com"),
+    LEETCODE("LEETCODE_BASE_URL", "https://leetcode.com"),
+    // The GFG weekly contest leaderboard and the institute practice stats
+    GFG_PRACTICE_API("GFG_PRACTICE_API_BASE_URL", "https://practiceapi.geeksforgeeks.org"),
+    // The GFG profile API
+    GFG_AUTH_API("GFG_AUTH_API_BASE_URL", "https://authapi.geeksforgeeks.org"),
+    // The GFG profile pages and the login page
+    GFG_AUTH("GFG_AUTH_BASE_URL", "https://auth.geeksforgeeks.org"),
+    HACKERRANK("HACKERRANK_BASE_URL", "https://www.hackerrank.com");
+
+    private volatile String baseUrl;
+
+    PlatformEndpoint(String variable, String liveBaseUrl) {
+        this.baseUrl = configured(variable, liveBaseUrl);
+    }
+
+    /**
+     * Builds the URL of a path on this endpoint.
+     *
+     * @param  path  the path and query, starting with '/'
+     * @return       the full URL
+     */
+    String url(String path) {
+        return baseUrl + path;
+    }
+
+    /**
+     * Points this endpoint at another base URL for the rest of the process.
+     *
+     * @param  baseUrl  the new base URL, without a trailing '/'
+     */
+    void redirect(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    // The base URL from the environment with any trailing '/' removed, or the live one
+    private static String configured(String variable, String liveBaseUrl) {
+        String value = System.getenv(variable);
+        if (value == null || value.isBlank()) {
+            return liveBaseUrl;
+        }
+        value = value.trim();
+        while (value.endsWith("/")) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,918 @@
+package org.cmrit;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The PlatformSimulator serves the APIs of every platform we scrape for a synthetic roster, in-process, so that full
+ * runs can be load-tested and the retry logic exercised without the network. Every {@link PlatformEndpoint} gets a
+ * JDK HttpServer of its own on a free loopback port, so each simulated platform keeps its own HostRateLimiter as the
+ * live hosts do. Responses have the shape of the live ones for the fields the scrapers read and a few they skip, and
+ * large bodies are gzipped.
+ *
+ * Every response is delayed by a latency drawn from a configurable distribution. A configurable share of the
+ * responses fails with one of the configured statuses (429, 500 and 524 by default), and a platform that gets more
+ * than its capacity of requests in one second answers the excess with 429 and a Retry-After. The GFG weekly contest,
+ * the GFG institute stats and the HackerRank trackers are paginated like the live ones.
+ *
+ * The roster and every rating depend only on the size and the seed. A small share of the Codeforces, Codechef and
+ * Leetcode handles does not exist on the platform, like stale handles in the real roster. The simulator is configured
+ * with environment variables:
+ * <pre>
+ *   SIMULATOR_LATENCY      latency of a response in ms: constant:MS, uniform:MIN:MAX, exponential:MEAN or
+ *                          lognormal:MEDIAN:SIGMA (default lognormal:100:0.5)
+ *   SIMULATOR_ERROR_RATE   share of the responses that fail (default 0.01)
+ *   SIMULATOR_ERROR_CODES  statuses the failures are drawn from (default 429,500,524)
+ *   SIMULATOR_CAPACITY     requests per second each platform accepts before answering 429 (default 50)
+ *   SIMULATOR_PAGE_SIZE    rows per GFG weekly contest page (default 50)
+ *   SIMULATOR_TRACKERS     number of HackerRank trackers (default 4)
+ *   SIMULATOR_SEED         seed of the roster and the ratings (default 2026)
+ * </pre>
+ */
+class PlatformSimulator implements AutoCloseable {
+
+    static final int DEFAULT_USERS = 10000;
+
+    // Columns of the platforms in the participant CSV, after the student handle
+    private static final int GFG = 0;
+    private static final int CODEFORCES = 1;
+    private static final int LEETCODE = 2;
+    private static final int CODECHEF = 3;
+    private static final int HACKERRANK = 4;
+    private static final String[] HANDLE_PREFIXES = {"gfg_", "cf_", "lc_", "cc_", "hr_"};
+
+    // Share of the roster whose handle on a platform is marked as existing in the participant CSV
+    private static final double LINKED_SHARE = 0.9;
+    // Share of the Codeforces, Codechef and Leetcode handles that do not exist on the platform
+    private static final double STALE_SHARE = 0.01;
+    // Share of the GFG users listed on the institute stats page; the others are only found through their profile
+    private static final double INSTITUTE_LISTED_SHARE = 0.9;
+    // Share of the roster taking part in each HackerRank tracker
+    private static final double TRACKER_PARTICIPATION = 0.3;
+    // Largest page HackerRank serves
+    private static final int HACKERRANK_MAX_LIMIT = 100;
+    // Bodies larger than this are gzipped when the client accepts it
+    private static final int GZIP_THRESHOLD = 1024;
+
+    // One userContestRanking selection of a batched Leetcode query: alias: userContestRanking(username: $variable)
+    private static final Pattern LEETCODE_SELECTION = Pattern.compile("(\\w+)\\s*:\\s*userContestRanking\\s*\\(\\s*username\\s*:\\s*\\$(\\w+)\\s*\\)");
+    private static final Pattern INSTITUTE_STATS_PATH = Pattern.compile("/api/v1/institute/\\d+/students/stats/?");
+
+    private final int size;
+    private final Options options;
+
+    // Ratings by roster index, 0 for none
+    private final int[] codeforces;
+    private final int[] codechef;
+    private final int[] leetcode;
+    private final int[] gfgPractice;
+    // Handles marked as existing in the participant CSV, and handles that do not exist on the platform, by column
+    private final BitSet[] linked = new BitSet[HANDLE_PREFIXES.length];
+    private final BitSet[] stale = new BitSet[HANDLE_PREFIXES.length];
+    private final BitSet instituteListed;
+
+    // The GFG weekly contest leaderboard by score: roster indexes, or -1 - j for the j-th outside participant
+    private final Standings gfgWeekly;
+    private final Standings[] trackers;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<PlatformEndpoint, Host> hosts = new EnumMap<>(PlatformEndpoint.class);
+
+    private PlatformSimulator(int size, Options options) {
+        this.size = size;
+        this.options = options;
+        Random random = new Random(options.seed);
+        codeforces = new int[size];
+        codechef = new int[size];
+        leetcode = new int[size];
+        gfgPractice = new int[size];
+        int[] gfgWeeklyScores = new int[size];
+        for (int column = 0; column < HANDLE_PREFIXES.length; column++) {
+            linked[column] = new BitSet(size);
+            stale[column] = new BitSet(size);
+        }
+        instituteListed = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            codeforces[i] = rating(random, 0.6, 3500);
+            gfgWeeklyScores[i] = rating(random, 0.4, 1500);
+            gfgPractice[i] = rating(random, 0.7, 3000);
+            leetcode[i] = rating(random, 0.5, 3000);
+            codechef[i] = rating(random, 0.5, 2800);
+            for (int column = 0; column < HANDLE_PREFIXES.length; column++) {
+                linked[column].set(i, random.nextDouble() < LINKED_SHARE);
+            }
+            stale[CODEFORCES].set(i, random.nextDouble() < STALE_SHARE);
+            stale[LEETCODE].set(i, random.nextDouble() < STALE_SHARE);
+            stale[CODECHEF].set(i, random.nextDouble() < STALE_SHARE);
+            instituteListed.set(i, random.nextDouble() < INSTITUTE_LISTED_SHARE);
+        }
+
+        // The weekly contest is open to everyone: as many outside participants as the roster, some of them with 0
+        List<int[]> weekly = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (gfgWeeklyScores[i] > 0) {
+                weekly.add(new int[]{i, gfgWeeklyScores[i]});
+            }
+        }
+        for (int j = 0; j < size; j++) {
+            weekly.add(new int[]{-1 - j, rating(random, 0.9, 1500)});
+        }
+        gfgWeekly = new Standings(weekly);
+
+        trackers = new Standings[options.trackers];
+        for (int t = 0; t < trackers.length; t++) {
+            List<int[]> tracker = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                if (random.nextDouble() < TRACKER_PARTICIPATION) {
+                    tracker.add(new int[]{i, random.nextInt(501)});
+                }
+            }
+            for (int j = 0; j < size / 10; j++) {
+                tracker.add(new int[]{-1 - j, random.nextInt(501)});
+            }
+            trackers[t] = new Standings(tracker);
+        }
+    }
+
+    // A rating that is present with the given probability, skewed towards the low end like the real ones
+    private static int rating(Random random, double present, int max) {
+        if (random.nextDouble() >= present) {
+            return 0;
+        }
+        return (int) (random.nextDouble() * random.nextDouble() * max);
+    }
+
+    /**
+     * Generates the roster and starts serving every platform. The endpoints still point at the live sites until
+     * {@link #redirectEndpoints()} is called.
+     *
+     * @param  size     the number of participants in the roster
+     * @param  options  the latency, failures and pagination to simulate
+     * @return          the running simulator
+     * @throws IOException  if a server cannot be started
+     */
+    static PlatformSimulator start(int size, Options options) throws IOException {
+        // Headers and bodies are separate writes, see LeaderboardServer
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        PlatformSimulator simulator = new PlatformSimulator(size, options);
+        Map<PlatformEndpoint, Route> routes = new EnumMap<>(PlatformEndpoint.class);
+        routes.put(PlatformEndpoint.CODECHEF, simulator::codechef);
+        routes.put(PlatformEndpoint.CODEFORCES, simulator::codeforces);
+        routes.put(PlatformEndpoint.LEETCODE, simulator::leetcode);
+        routes.put(PlatformEndpoint.GFG_PRACTICE_API, simulator::gfgPracticeApi);
+        routes.put(PlatformEndpoint.GFG_AUTH_API, simulator::gfgProfileApi);
+        routes.put(PlatformEndpoint.GFG_AUTH, simulator::gfgProfilePage);
+        routes.put(PlatformEndpoint.HACKERRANK, simulator::hackerrank);
+        try {
+            for (Map.Entry<PlatformEndpoint, Route> route : routes.entrySet()) {
+                HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+                server.setExecutor(simulator.executor);
+                Host host = new Host(route.getKey(), server, options.capacity);
+                server.createContext("/", simulator.handler(host, route.getValue()));
+                server.start();
+                simulator.hosts.put(route.getKey(), host);
+            }
+        } catch (IOException e) {
+            simulator.close();
+            throw e;
+        }
+        return simulator;
+    }
+
+    /**
+     * Points every PlatformEndpoint at this simulator and lets the rate limiter of each simulated platform start at
+     * half its capacity and probe up to it.
+     */
+    void redirectEndpoints() {
+        for (Host host : hosts.values()) {
+            host.endpoint.redirect("http://" + host.authority());
+            HostRateLimiter.configure(host.authority(), options.capacity / 2.0, options.capacity);
+        }
+    }
+
+    /**
+     * Writes the roster in the format of src/main/resources/participant_details.csv.
+     *
+     * @param  path  the file to write
+     * @throws IOException  if the file cannot be written
+     */
+    void writeParticipantCsv(Path path) throws IOException {
+        StringBuilder csv = new StringBuilder(size * 100);
+        csv.append(RosterRepository.CSV_HEADER).append('\n');
+        for (int i = 0; i < size; i++) {
+            csv.append(handle(i));
+            for (String prefix : HANDLE_PREFIXES) {
+                csv.append(',').append(prefix).append(i);
+            }
+            for (BitSet column : linked) {
+                csv.append(',').append(column.get(i) ? "True" : "False");
+            }
+            csv.append('\n');
+        }
+        Files.writeString(path, csv, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The names of the HackerRank trackers, to be used as search tokens.
+     */
+    List<String> trackerNames() {
+        List<String> names = new ArrayList<>();
+        for (int t = 1; t <= trackers.length; t++) {
+            names.add("sim-tracker-" + t);
+        }
+        return names;
+    }
+
+    /**
+     * Prints how many requests every simulated platform answered, and how many of them were throttled or failed.
+     */
+    void printReport() {
+        for (Host host : hosts.values()) {
+            System.out.println(host.endpoint.name().toLowerCase(Locale.ROOT) + ": " + host.requests.sum() + " requests, "
+                    + host.throttled.sum() + " throttled, " + host.failed.sum() + " failed");
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Host host : hosts.values()) {
+            host.server.stop(0);
+        }
+        executor.close();
+    }
+
+    // Student handle of the i-th participant, shaped like a roll number
+    private static String handle(int i) {
+        return String.format("26r01a%06d", i);
+    }
+
+    // Roster index of a platform handle, or -1 if it is not one of ours
+    private int indexOf(String platformHandle, int column) {
+        String prefix = HANDLE_PREFIXES[column];
+        String lower = platformHandle.toLowerCase(Locale.ROOT);
+        if (!lower.startsWith(prefix) || lower.length() == prefix.length() || lower.length() > prefix.length() + 9) {
+            return -1;
+        }
+        int index = 0;
+        for (int k = prefix.length(); k < lower.length(); k++) {
+            char c = lower.charAt(k);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index < size && !stale[column].get(index) ? index : -1;
+    }
+
+    // GET /{handle}
+    private Response codechef(Request request) {
+        int i = indexOf(URLDecoder.decode(request.path.substring(1), StandardCharsets.UTF_8), CODECHEF);
+        if (i < 0) {
+            return Response.json(404, writer -> writer.beginObject().name("success").value(false)
+                    .name("error").value("user not found").endObject());
+        }
+        int rating = codechef[i];
+        String etag = "\"cc-" + i + "-" + rating + "\"";
+        if (etag.equals(request.header("If-None-Match"))) {
+            return new Response(304, null, new byte[0]).withHeader("ETag", etag);
+        }
+        return Response.json(200, writer -> writer.beginObject()
+                .name("success").value(true)
+                .name("profile").value("https://cdn.codechef.com/images/default-user.svg")
+                .name("name").value("Synthetic Student " + i)
+                .name("currentRating").value(rating)
+                .name("highestRating").value(rating + i % 100)
+                .name("countryFlag").value("https://cdn.codechef.com/download/flags/24/in.png")
+                .name("countryName").value("India")
+                .name("globalRank").value(rating == 0 ? 0 : 3000 - rating + i % 1000)
+                .name("countryRank").value(rating == 0 ? 0 : (3000 - rating) / 2)
+                .name("stars").value((rating < 1400 ? 1 : Math.min(7, (rating - 1200) / 200)) + "★")
+                .endObject()).withHeader("ETag", etag);
+    }
+
+    // GET /api/user.info?handles=a;b;c
+    private Response codeforces(Request request) {
+        if (!request.path.equals("/api/user.info")) {
+            return codeforcesFailure(404, "Method not found");
+        }
+        String handles = request.query.getOrDefault("handles", "");
+        if (handles.isEmpty()) {
+            return codeforcesFailure(400, "handles: Field should not be empty");
+        }
+        String[] requested = handles.split(";");
+        if (requested.length > 10000) {
+            return codeforcesFailure(400, "handles: Field should contain no more than 10000 items");
+        }
+        int[] indexes = new int[requested.length];
+        for (int k = 0; k < requested.length; k++) {
+            indexes[k] = indexOf(requested[k], CODEFORCES);
+            if (indexes[k] < 0) {
+                // Codeforces names only the first handle it cannot find
+                return codeforcesFailure(400, "handles: User with handle " + requested[k] + " not found");
+            }
+        }
+        return Response.json(200, writer -> {
+            writer.beginObject().name("status").value("OK").name("result").beginArray();
+            for (int i : indexes) {
+                writer.beginObject()
+                        .name("lastName").value("Student")
+                        .name("country").value("India")
+                        .name("lastOnlineTimeSeconds").value(1700000000L + i)
+                        .name("city").value("Hyderabad");
+                // Unrated users have no rating at all
+                if (codeforces[i] > 0) {
+                    writer.name("rating").value(codeforces[i])
+                            .name("rank").value("pupil")
+                            .name("maxRating").value(codeforces[i] + i % 50)
+                            .name("maxRank").value("specialist");
+                }
+                writer.name("friendOfCount").value(i % 50)
+                        .name("titlePhoto").value("https://userpic.codeforces.org/no-title.jpg")
+                        .name("handle").value(HANDLE_PREFIXES[CODEFORCES] + i)
+                        .name("avatar").value("https://userpic.codeforces.org/no-avatar.jpg")
+                        .name("firstName").value("Synthetic")
+                        .name("contribution").value(0)
+                        .name("organization").value("CMRIT")
+                        .name("registrationTimeSeconds").value(1600000000L + i)
+                        .endObject();
+            }
+            writer.endArray().endObject();
+        });
+    }
+
+    private static Response codeforcesFailure(int status, String comment) {
+        return Response.json(status, writer -> writer.beginObject().name("status").value("FAILED")
+                .name("comment").value(comment).endObject());
+    }
+
+    // POST /graphql with aliased userContestRanking selections; only the selected rating is returned
+    private Response leetcode(Request request) {
+        if (!request.path.equals("/graphql")) {
+            return Response.html(404, "<h1>Page Not Found</h1>");
+        }
+        if (!request.method.equals("POST")) {
+            return Response.html(405, "<h1>Method Not Allowed</h1>");
+        }
+        String query;
+        JsonObject variables;
+        try {
+            JsonObject body = JsonParser.parseString(new String(request.body, StandardCharsets.UTF_8)).getAsJsonObject();
+            query = body.has("query") ? body.get("query").getAsString() : "";
+            variables = body.has("variables") ? body.getAsJsonObject("variables") : new JsonObject();
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException e) {
+            return leetcodeFailure("Invalid JSON body");
+        }
+        Map<String, Integer> selections = new LinkedHashMap<>();
+        Matcher matcher = LEETCODE_SELECTION.matcher(query);
+        while (matcher.find()) {
+            JsonElement username = variables.get(matcher.group(2));
+            selections.put(matcher.group(1), username == null || !username.isJsonPrimitive() ? -1 : indexOf(username.getAsString(), LEETCODE));
+        }
+        if (selections.isEmpty()) {
+            return leetcodeFailure("Must provide query string.");
+        }
+        return Response.json(200, writer -> {
+            writer.beginObject().name("data").beginObject();
+            for (Map.Entry<String, Integer> selection : selections.entrySet()) {
+                int i = selection.getValue();
+                writer.name(selection.getKey());
+                // Users without a contest have no ranking at all
+                if (i < 0 || leetcode[i] == 0) {
+                    writer.nullValue();
+                } else {
+                    writer.beginObject().name("rating").value(leetcode[i] + (i % 10000) / 10000.0).endObject();
+                }
+            }
+            writer.endObject();
+            boolean errors = false;
+            for (Map.Entry<String, Integer> selection : selections.entrySet()) {
+                if (selection.getValue() >= 0) {
+                    continue;
+                }
+                if (!errors) {
+                    writer.name("errors").beginArray();
+                    errors = true;
+                }
+                writer.beginObject().name("message").value("That user does not exist.")
+                        .name("path").beginArray().value(selection.getKey()).endArray()
+                        .name("extensions").beginObject().name("handled").value(true).endObject()
+                        .endObject();
+            }
+            if (errors) {
+                writer.endArray();
+            }
+            writer.endObject();
+        });
+    }
+
+    private static Response leetcodeFailure(String message) {
+        return Response.json(400, writer -> writer.beginObject().name("errors").beginArray()
+                .beginObject().name("message").value(message).endObject()
+                .endArray().endObject());
+    }
+
+    // The weekly contest leaderboard and the institute stats
+    private Response gfgPracticeApi(Request request) {
+        if (request.path.startsWith("/api/latest/events/recurring/gfg-weekly-coding-contest/leaderboard")) {
+            return gfgWeekly(intParameter(request, "page", 1));
+        }
+        if (INSTITUTE_STATS_PATH.matcher(request.path).matches()) {
+            return gfgInstituteStats(intParameter(request, "page", 1), intParameter(request, "page_size", 20));
+        }
+        return gfgNotFound("Not found.");
+    }
+
+    // GET /api/latest/events/recurring/gfg-weekly-coding-contest/leaderboard/?leaderboard_type=0&page=N
+    private Response gfgWeekly(int page) {
+        int pageSize = options.pageSize;
+        int from = (page - 1) * pageSize;
+        if (page < 1 || (from >= gfgWeekly.size() && page > 1)) {
+            return gfgNotFound("Invalid page.");
+        }
+        int to = Math.min(gfgWeekly.size(), from + pageSize);
+        return Response.json(200, writer -> {
+            writer.beginObject().name("count").value(gfgWeekly.size())
+                    .name("next").value(to < gfgWeekly.size() ? "?leaderboard_type=0&page=" + (page + 1) : null)
+                    .name("previous").value(page > 1 ? "?leaderboard_type=0&page=" + (page - 1) : null)
+                    .name("results").beginArray();
+            for (int k = from; k < to; k++) {
+                int participant = gfgWeekly.participants[k];
+                writer.beginObject()
+                        .name("user_id").value(participant >= 0 ? 1_000_000 + participant : -participant)
+                        .name("user_handle").value(participant >= 0 ? HANDLE_PREFIXES[GFG] + participant : "geek_" + (-1 - participant))
+                        .name("user_score").value(gfgWeekly.scores[k])
+                        .name("user_rank").value(gfgWeekly.ranks[k])
+                        .name("institute_name").value(participant >= 0 ? "CMR Institute of Technology" : "")
+                        .endObject();
+            }
+            writer.endArray().name("consider_for_geek_bits").value(true).endObject();
+        });
+    }
+
+    // GET /api/v1/institute/{id}/students/stats?page_size=N&page=M, the listed roster in roster order
+    private Response gfgInstituteStats(int page, int pageSize) {
+        int count = instituteListed.cardinality();
+        long from = (long) (page - 1) * pageSize;
+        if (page < 1 || pageSize < 1 || (from >= count && page > 1)) {
+            return gfgNotFound("Invalid page.");
+        }
+        return Response.json(200, writer -> {
+            writer.beginObject().name("page_size").value(pageSize).name("count").value(count)
+                    .name("next").value(from + pageSize < count ? "?page_size=" + pageSize + "&page=" + (page + 1) : null)
+                    .name("previous").value(page > 1 ? "?page_size=" + pageSize + "&page=" + (page - 1) : null)
+                    .name("results").beginArray();
+            int position = 0;
+            for (int i = instituteListed.nextSetBit(0); i >= 0 && position < from + pageSize; i = instituteListed.nextSetBit(i + 1), position++) {
+                if (position < from) {
+                    continue;
+                }
+                writer.beginObject()
+                        .name("user_id").value(1_000_000 + i)
+                        .name("handle").value(HANDLE_PREFIXES[GFG] + i)
+                        .name("coding_score").value(gfgPractice[i])
+                        .name("total_problems_solved").value(gfgPractice[i] / 3)
+                        .name("potd_longest_streak").value(i % 100)
+                        .endObject();
+            }
+            writer.endArray().endObject();
+        });
+    }
+
+    private static Response gfgNotFound(String detail) {
+        return Response.json(404, writer -> writer.beginObject().name("detail").value(detail).endObject());
+    }
+
+    // GET /api-get/user-profile-info/?handle=X
+    private Response gfgProfileApi(Request request) {
+        if (!request.path.startsWith("/api-get/user-profile-info")) {
+            return gfgNotFound("Not found.");
+        }
+        int i = indexOf(request.query.getOrDefault("handle", ""), GFG);
+        if (i < 0) {
+            return Response.json(404, writer -> writer.beginObject().name("message").value("user not found").endObject());
+        }
+        return Response.json(200, writer -> writer.beginObject()
+                .name("message").value("data retrieved successfully")
+                .name("data").beginObject()
+                .name("name").value(HANDLE_PREFIXES[GFG] + i)
+                .name("created_date").value("2024-08-01 10:00:00")
+                .name("institute_name").value("CMR Institute of Technology")
+                .name("score").value(gfgPractice[i])
+                .name("monthly_score").value(gfgPractice[i] / 10)
+                .name("total_problems_solved").value(gfgPractice[i] / 3)
+                .name("pod_solved_longest_streak").value(i % 100)
+                .endObject()
+                .endObject());
+    }
+
+    // GET /user/{handle}/ and the login page at /
+    private Response gfgProfilePage(Request request) {
+        if (request.path.equals("/")) {
+            return Response.html(200, "<html><head><title>Login - GeeksforGeeks</title></head><body><form id=\"login\"></form></body></html>");
+        }
+        String path = request.path.endsWith("/") ? request.path.substring(0, request.path.length() - 1) : request.path;
+        int i = path.startsWith("/user/") ? indexOf(URLDecoder.decode(path.substring("/user/".length()), StandardCharsets.UTF_8), GFG) : -1;
+        if (i < 0) {
+            return Response.html(404, "<html><head><title>Page not found</title></head><body></body></html>");
+        }
+        return Response.html(200, "<html><head><title>" + HANDLE_PREFIXES[GFG] + i + " | GeeksforGeeks Profile</title></head><body>"
+                + "<div class=\"score_cards_container\"><div class=\"score_card\">"
+                + "<span class=\"score_card_name\">Overall Coding Score</span><br><span class=\"score_card_value\">" + gfgPractice[i] + "</span>"
+                + "</div><div class=\"score_card\">"
+                + "<span class=\"score_card_name\">Total Problem Solved</span><br><span class=\"score_card_value\">" + gfgPractice[i] / 3 + "</span>"
+                + "</div></div></body></html>");
+    }
+
+    // GET /rest/contests/{tracker}/leaderboard?offset=N&limit=M
+    private Response hackerrank(Request request) {
+        String[] parts = request.path.split("/");
+        int tracker = -1;
+        if (parts.length == 5 && parts[1].equals("rest") && parts[2].equals("contests") && parts[4].equals("leaderboard")) {
+            tracker = trackerNames().indexOf(parts[3]);
+        }
+        if (tracker < 0) {
+            return Response.json(404, writer -> writer.beginObject().name("status").value(false)
+                    .name("message").value("INVALID URL").endObject());
+        }
+        Standings standings = trackers[tracker];
+        int offset = Math.max(0, intParameter(request, "offset", 0));
+        int limit = Math.max(0, Math.min(HACKERRANK_MAX_LIMIT, intParameter(request, "limit", 10)));
+        int to = (int) Math.min(standings.size(), (long) offset + limit);
+        return Response.json(200, writer -> {
+            writer.beginObject().name("models").beginArray();
+            for (int k = offset; k < to; k++) {
+                int participant = standings.participants[k];
+                writer.beginObject()
+                        .name("rank").value(standings.ranks[k])
+                        .name("hacker").value(participant >= 0 ? HANDLE_PREFIXES[HACKERRANK] + participant : "hacker_" + (-1 - participant))
+                        .name("score").value((double) standings.scores[k])
+                        .name("time_taken").value(1000 + (k * 37) % 100000)
+                        .name("hacker_id").value(participant >= 0 ? 1_000_000 + participant : -participant)
+                        .name("avatar").value("https://hrcdn.net/s3_pub/hr-avatars/default.png")
+                        .name("country").value("India")
+                        .name("school").value(participant >= 0 ? "CMR Institute of Technology" : "")
+                        .endObject();
+            }
+            writer.endArray().name("total").value(standings.size()).name("available").value(true).endObject();
+        });
+    }
+
+    private static int intParameter(Request request, String name, int defaultValue) {
+        String value = request.query.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private HttpHandler handler(Host host, Route route) {
+        return exchange -> {
+            try (exchange) {
+                host.requests.increment();
+                // Requests count against the capacity when they arrive, and every answer takes the simulated latency
+                boolean admitted = host.admit();
+                Request request = new Request(exchange);
+                Thread.sleep(options.latency.sampleMillis(ThreadLocalRandom.current()));
+                Response response;
+                if (!admitted) {
+                    host.throttled.increment();
+                    response = Response.failure(429);
+                } else if (options.errorRate > 0 && ThreadLocalRandom.current().nextDouble() < options.errorRate) {
+                    host.failed.increment();
+                    response = Response.failure(options.errorCodes[ThreadLocalRandom.current().nextInt(options.errorCodes.length)]);
+                } else {
+                    response = route.answer(request);
+                }
+                send(exchange, response);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+    }
+
+    private static void send(HttpExchange exchange, Response response) throws IOException {
+        response.headers.forEach(exchange.getResponseHeaders()::set);
+        byte[] body = response.body;
+        if (body.length == 0) {
+            exchange.sendResponseHeaders(response.status, -1);
+            return;
+        }
+        String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (body.length > GZIP_THRESHOLD && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            ByteArrayOutputStream gzipped = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(gzipped)) {
+                gzip.write(body);
+            }
+            body = gzipped.toByteArray();
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+        }
+        exchange.getResponseHeaders().set("Content-Type", response.contentType);
+        exchange.sendResponseHeaders(response.status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * The latency, failures and pagination to simulate.
+     */
+    static class Options {
+        final Latency latency;
+        final double errorRate;
+        final int[] errorCodes;
+        final int capacity;
+        final int pageSize;
+        final int trackers;
+        final long seed;
+
+        Options(Latency latency, double errorRate, int[] errorCodes, int capacity, int pageSize, int trackers, long seed) {
+            if (errorRate < 0 || errorRate > 1) {
+                throw new IllegalArgumentException("Error rate must be between 0 and 1: " + errorRate);
+            }
+            if (errorCodes.length == 0 && errorRate > 0) {
+                throw new IllegalArgumentException("No error codes to fail with");
+            }
+            if (capacity < 1 || pageSize < 1 || trackers < 0) {
+                throw new IllegalArgumentException("Capacity and page size must be positive and trackers not negative");
+            }
+            this.latency = latency;
+            this.errorRate = errorRate;
+            this.errorCodes = errorCodes;
+            this.capacity = capacity;
+            this.pageSize = pageSize;
+            this.trackers = trackers;
+            this.seed = seed;
+        }
+
+        /**
+         * Reads the options from the SIMULATOR_* environment variables, see {@link PlatformSimulator}.
+         *
+         * @return  the options
+         * @throws IllegalArgumentException  if a variable is malformed
+         */
+        static Options fromEnvironment() {
+            try {
+                return new Options(
+                        Latency.parse(environment("SIMULATOR_LATENCY", "lognormal:100:0.5")),
+                        Double.parseDouble(environment("SIMULATOR_ERROR_RATE", "0.01")),
+                        Arrays.stream(environment("SIMULATOR_ERROR_CODES", "429,500,524").split(","))
+                                .map(String::trim).filter(code -> !code.isEmpty()).mapToInt(Integer::parseInt).toArray(),
+                        Integer.parseInt(environment("SIMULATOR_CAPACITY", "50")),
+                        Integer.parseInt(environment("SIMULATOR_PAGE_SIZE", "50")),
+                        Integer.parseInt(environment("SIMULATOR_TRACKERS", "4")),
+                        Long.parseLong(environment("SIMULATOR_SEED", "2026")));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid simulator option: " + e.getMessage(), e);
+            }
+        }
+
+        private static String environment(String name, String defaultValue) {
+            String value = System.getenv(name);
+            return value == null || value.isBlank() ? defaultValue : value.trim();
+        }
+    }
+
+    /**
+     * A distribution of response latencies, in milliseconds.
+     */
+    static class Latency {
+        private final String kind;
+        private final double first;
+        private final double second;
+
+        private Latency(String kind, double first, double second) {
+            this.kind = kind;
+            this.first = first;
+            this.second = second;
+        }
+
+        /**
+         * Parses constant:MS, uniform:MIN:MAX, exponential:MEAN or lognormal:MEDIAN:SIGMA.
+         *
+         * @param  spec  the distribution
+         * @return       the parsed distribution
+         * @throws IllegalArgumentException  if the distribution is unknown or its parameters are missing
+         */
+        static Latency parse(String spec) {
+            String[] parts = spec.trim().toLowerCase(Locale.ROOT).split(":");
+            int parameters = switch (parts[0]) {
+                case "constant", "exponential" -> 1;
+                case "uniform", "lognormal" -> 2;
+                default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+            };
+            if (parts.length != parameters + 1) {
+                throw new IllegalArgumentException("Latency " + parts[0] + " takes " + parameters + " parameter(s): " + spec);
+            }
+            double first = Double.parseDouble(parts[1]);
+            double second = parameters == 2 ? Double.parseDouble(parts[2]) : 0;
+            if (first < 0 || second < 0 || (parts[0].equals("uniform") && second < first)) {
+                throw new IllegalArgumentException("Invalid latency parameters: " + spec);
+            }
+            return new Latency(parts[0], first, second);
+        }
+
+        long sampleMillis(Random random) {
+            double millis = switch (kind) {
+                case "constant" -> first;
+                case "uniform" -> first + random.nextDouble() * (second - first);
+                case "exponential" -> -first * Math.log(1 - random.nextDouble());
+                default -> first * Math.exp(second * random.nextGaussian());
+            };
+            return Math.round(millis);
+        }
+    }
+
+    /**
+     * A leaderboard sorted by score, highest first, with competition ranks (equal scores share a rank).
+     */
+    private static class Standings {
+        final int[] participants;
+        final int[] scores;
+        final int[] ranks;
+
+        Standings(List<int[]> entries) {
+            entries.sort((a, b) -> Integer.compare(b[1], a[1]));
+            participants = new int[entries.size()];
+            scores = new int[entries.size()];
+            ranks = new int[entries.size()];
+            for (int k = 0; k < entries.size(); k++) {
+                participants[k] = entries.get(k)[0];
+                scores[k] = entries.get(k)[1];
+                ranks[k] = k > 0 && scores[k] == scores[k - 1] ? ranks[k - 1] : k + 1;
+            }
+        }
+
+        int size() {
+            return participants.length;
+        }
+    }
+
+    /**
+     * One simulated host: its server, its per-second capacity and the counts of the report.
+     */
+    private static class Host {
+        final PlatformEndpoint endpoint;
+        final HttpServer server;
+        final int capacity;
+        final LongAdder requests = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+        final LongAdder failed = new LongAdder();
+        private long windowSecond;
+        private int windowCount;
+
+        Host(PlatformEndpoint endpoint, HttpServer server, int capacity) {
+            this.endpoint = endpoint;
+            this.server = server;
+            this.capacity = capacity;
+        }
+
+        String authority() {
+            return server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+        }
+
+        // Counts a request against the current one second window
+        synchronized boolean admit() {
+            long second = System.nanoTime() / 1_000_000_000L;
+            if (second != windowSecond) {
+                windowSecond = second;
+                windowCount = 0;
+            }
+            return ++windowCount <= capacity;
+        }
+    }
+
+    /**
+     * A request, with its raw (still percent-encoded) path and its decoded query parameters.
+     */
+    private static class Request {
+        final String method;
+        final String path;
+        final Map<String, String> query;
+        final byte[] body;
+        private final HttpExchange exchange;
+
+        Request(HttpExchange exchange) throws IOException {
+            this.exchange = exchange;
+            this.method = exchange.getRequestMethod();
+            this.path = exchange.getRequestURI().getRawPath();
+            this.query = parseQuery(exchange.getRequestURI().getRawQuery());
+            this.body = exchange.getRequestBody().readAllBytes();
+        }
+
+        String header(String name) {
+            return exchange.getRequestHeaders().getFirst(name);
+        }
+
+        private static Map<String, String> parseQuery(String rawQuery) {
+            Map<String, String> query = new HashMap<>();
+            if (rawQuery == null || rawQuery.isEmpty()) {
+                return query;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    query.put(URLDecoder.decode(pair.substring(0, equals), StandardCharsets.UTF_8),
+                            URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8));
+                }
+            }
+            return query;
+        }
+    }
+
+    /**
+     * A status code, a content type, extra headers and a body.
+     */
+    private static class Response {
+        final int status;
+        final String contentType;
+        final byte[] body;
+        final Map<String, String> headers = new HashMap<>();
+
+        Response(int status, String contentType, byte[] body) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        Response withHeader(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        static Response json(int status, JsonBody body) {
+            StringWriter out = new StringWriter();
+            try (JsonWriter writer = new JsonWriter(out)) {
+                body.write(writer);
+            } catch (IOException e) {
+                // A StringWriter does not fail
+                throw new UncheckedIOException(e);
+            }
+            return new Response(status, "application/json", out.toString().getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Response html(int status, String html) {
+            return new Response(status, "text/html; charset=utf-8", html.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // The overload responses of the live hosts: rate limiting, server errors and Cloudflare origin timeouts
+        static Response failure(int status) {
+            return switch (status) {
+                case 429 -> html(429, "<html><head><title>429 Too Many Requests</title></head><body><h1>Too Many Requests</h1></body></html>")
+                        .withHeader("Retry-After", "1");
+                case 524 -> html(524, "<html><head><title>524: A timeout occurred</title></head><body><h1>A timeout occurred</h1></body></html>");
+                default -> html(status, "<html><head><title>" + status + "</title></head><body><h1>Error " + status + "</h1></body></html>");
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface Route {
+        Response answer(Request request);
+    }
+
+    @FunctionalInterface
+    private interface JsonBody {
+        void write(JsonWriter writer) throws IOException;
+    }
+}
@@ -0,0 +1,304 @@
+package org.cmrit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * The RatingFileLoader reads the rating files written by the scrapers (one "handle,platformHandle,rating" record per
+ * line) into the users of the leaderboard.
+ *
+ * All rating files are read and parsed at the same time, each on its own virtual thread; the parsed records are
+ * then merged into the user map one file after the other, in {@link RatingFile} order, with a single map lookup per
+ * record. Files are scanned as bytes, without splitting lines into strings first: small files are read into one
+ * buffer, files of at least {@link #MAP_THRESHOLD} bytes are memory-mapped. A malformed line is reported with its
+ * line number and skipped; the rest of the file is still read.
+ */
+class RatingFileLoader {
+
+    // Files at least this large are memory-mapped instead of read into the heap
+    private static final long MAP_THRESHOLD = 1 << 20;
+    // Malformed lines reported per file; the rest are only counted
+    private static final int MAX_REPORTED_LINES = 10;
+
+    /**
+     * A rating file, the platform its users are created for and the setter of its rating, in merge order.
+     */
+    enum RatingFile {
+        CODEFORCES("codeforces_ratings.txt", "codeforces", "codeforces", "Codeforces", User::getCodeforcesRating, User::setCodeforcesRating),
+        GEEKSFORGEEKS("gfg_ratings.txt", "gfg", "geeksforgeeks", "GFG", User::getGeeksforgeeksRating, User::setGeeksforgeeksRating),
+        GEEKSFORGEEKS_PRACTICE("gfg_practice_ratings.txt", "gfg_practice", "geeksforgeeks", "GFG Practice", User::getgeeksforgeeksPracticeRating, User::setgeeksforgeeksPracticeRating),
+        LEETCODE("leetcode_ratings.txt", "leetcode", "leetcode", "Leetcode", User::getLeetcodeRating, User::setLeetcodeRating),
+        CODECHEF("codechef_ratings.txt", "codechef", "codechef", "Codechef", User::getCodechefRating, User::setCodechefRating),
+        HACKERRANK("hackerrank_ratings.txt", "hackerrank", "hackerrank", "Hackerrank", User::getHackerrankRating, User::setHackerrankRating);
+
+        final String fileName;
+        // The CLI option of the scraper that writes the file
+        final String option;
+        final String platform;
+        final String label;
+        final Function<User, Integer> getter;
+        final BiConsumer<User, Integer> setter;
+
+        RatingFile(String fileName, String option, String platform, String label, Function<User, Integer> getter, BiConsumer<User, Integer> setter) {
+            this.fileName = fileName;
+            this.option = option;
+            this.platform = platform;
+            this.label = label;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        /**
+         * Returns the rating file written by a scraper.
+         *
+         * @param  option  the CLI option of the scraper, e.g. "gfg_practice"
+         * @return         the rating file
+         * @throws IllegalArgumentException  if no scraper has that option
+         */
+        static RatingFile forOption(String option) {
+            for (RatingFile file : values()) {
+                if (file.option.equals(option)) {
+                    return file;
+                }
+            }
+            throw new IllegalArgumentException("Unknown rating file: " + option);
+        }
+    }
+
+    private RatingFileLoader() {
+    }
+
+    /**
+     * Reads every rating file and sets the ratings on the users in the map, adding a user for every handle that is
+     * not in it yet. A file that cannot be read is reported and skipped.
+     *
+     * @param  userMap  the users by handle
+     * @throws InterruptedException  if the thread is interrupted while the files are read
+     */
+    static void load(Map<String, User> userMap) throws InterruptedException {
+        RatingFile[] files = RatingFile.values();
+        Parsed[] parsed = new Parsed[files.length];
+        ScrapeOrchestrator.forEachConcurrently(List.of(files), files.length, file -> parsed[file.ordinal()] = parse(file));
+
+        // Merge in file order on this thread, so the map needs no locking
+        for (RatingFile file : files) {
+            Parsed records = parsed[file.ordinal()];
+            if (records.error != null) {
+                System.err.println("Error reading " + file.label + " ratings file: " + records.error.getMessage());
+                continue;
+            }
+            for (int i = 0; i < records.size; i++) {
+                String handle = records.handles[i];
+                User user = userMap.get(handle);
+                if (user == null) {
+                    user = new User(handle, file.platform, records.platformHandles[i]);
+                    userMap.put(handle, user);
+                }
+                file.setter.accept(user, records.ratings[i]);
+            }
+            records.reportBadLines(file);
+            System.out.println(file.label + " ratings read successfully: " + records.size + " records.");
+        }
+    }
+
+    /**
+     * Reads one rating file as the complete new state of its platform: users in the file get its rating, users
+     * missing from it get 0, and handles not in the map yet are added.
+     *
+     * @param  userMap  the users by handle
+     * @param  file     the rating file
+     * @return          the users whose rating on the platform changed, including the added ones, or null if the file
+     *                  cannot be read, in which case no rating is changed
+     */
+    static List<User> reload(Map<String, User> userMap, RatingFile file) {
+        Parsed records = parse(file);
+        if (records.error != null) {
+            System.err.println("Error reading " + file.label + " ratings file: " + records.error.getMessage());
+            return null;
+        }
+        List<User> changed = new ArrayList<>();
+        Map<String, Integer> ratings = new HashMap<>();
+        for (int i = 0; i < records.size; i++) {
+            String handle = records.handles[i];
+            ratings.put(handle, records.ratings[i]);
+            if (!userMap.containsKey(handle)) {
+                User user = new User(handle, file.platform, records.platformHandles[i]);
+                file.setter.accept(user, records.ratings[i]);
+                userMap.put(handle, user);
+                changed.add(user);
+            }
+        }
+        for (User user : userMap.values()) {
+            int rating = ratings.getOrDefault(user.getHandle(), 0);
+            Integer previous = file.getter.apply(user);
+            if (previous == null || previous != rating) {
+                file.setter.accept(user, rating);
+                changed.add(user);
+            }
+        }
+        records.reportBadLines(file);
+        System.out.println(file.label + " ratings read successfully: " + records.size + " records, " + changed.size() + " changed.");
+        return changed;
+    }
+
+    /**
+     * Parses one rating file. Never throws; a file that cannot be read is returned with its error.
+     *
+     * @param  file  the rating file
+     * @return       the records of the file
+     */
+    static Parsed parse(RatingFile file) {
+        Parsed parsed = new Parsed();
+        try (FileChannel channel = FileChannel.open(Path.of(file.fileName), StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer buffer;
+            if (size >= MAP_THRESHOLD) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            } else {
+                buffer = ByteBuffer.allocate((int) size);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer) < 0) {
+                        break;
+                    }
+                }
+                buffer.flip();
+            }
+            parse(buffer, parsed);
+        } catch (IOException e) {
+            parsed.error = e;
+        }
+        return parsed;
+    }
+
+    // Scans the records of a buffer: three comma separated fields per line, anything after the third is ignored
+    static void parse(ByteBuffer buffer, Parsed parsed) {
+        byte[] scratch = new byte[256];
+        int limit = buffer.limit();
+        int lineNumber = 0;
+        int start = 0;
+        while (start < limit) {
+            lineNumber++;
+            int end = start;
+            int firstComma = -1;
+            int secondComma = -1;
+            int thirdComma = -1;
+            while (end < limit) {
+                byte b = buffer.get(end);
+                if (b == '\n') {
+                    break;
+                }
+                if (b == ',') {
+                    if (firstComma < 0) {
+                        firstComma = end;
+                    } else if (secondComma < 0) {
+                        secondComma = end;
+                    } else if (thirdComma < 0) {
+                        thirdComma = end;
+                    }
+                }
+                end++;
+            }
+            int lineEnd = end > start && buffer.get(end - 1) == '\r' ? end - 1 : end;
+            int next = end + 1;
+
+            if (lineEnd == start) {
+                // blank line, e.g. the end of the file
+                start = next;
+                continue;
+            }
+            int ratingEnd = thirdComma >= 0 ? thirdComma : lineEnd;
+            long rating = secondComma < 0 ? Long.MIN_VALUE : parseInt(buffer, secondComma + 1, ratingEnd);
+            if (firstComma <= start || rating == Long.MIN_VALUE) {
+                parsed.badLine(lineNumber, text(buffer, start, lineEnd, scratch));
+            } else {
+                parsed.add(text(buffer, start, firstComma, scratch), text(buffer, firstComma + 1, secondComma, scratch), (int) rating);
+            }
+            start = next;
+        }
+    }
+
+    // The int in [from, to), or Long.MIN_VALUE if the bytes are not one
+    private static long parseInt(ByteBuffer buffer, int from, int to) {
+        boolean negative = from < to && buffer.get(from) == '-';
+        int i = negative ? from + 1 : from;
+        if (i == to) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return Long.MIN_VALUE;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+
+    private static String text(ByteBuffer buffer, int from, int to, byte[] scratch) {
+        int length = to - from;
+        byte[] bytes = length <= scratch.length ? scratch : new byte[length];
+        buffer.get(from, bytes, 0, length);
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The records of one rating file in parallel arrays, plus its malformed lines.
+     */
+    static class Parsed {
+        String[] handles = new String[64];
+        String[] platformHandles = new String[64];
+        int[] ratings = new int[64];
+        int size;
+        final List<String> badLines = new ArrayList<>();
+        int badLineCount;
+        IOException error;
+
+        void add(String handle, String platformHandle, int rating) {
+            if (size == handles.length) {
+                int capacity = size * 2;
+                handles = Arrays.copyOf(handles, capacity);
+                platformHandles = Arrays.copyOf(platformHandles, capacity);
+                ratings = Arrays.copyOf(ratings, capacity);
+            }
+            handles[size] = handle;
+            platformHandles[size] = platformHandle;
+            ratings[size] = rating;
+            size++;
+        }
+
+        void badLine(int lineNumber, String line) {
+            if (badLineCount++ < MAX_REPORTED_LINES) {
+                badLines.add("line " + lineNumber + ": " + line);
+            }
+        }
+
+        void reportBadLines(RatingFile file) {
+            if (badLineCount == 0) {
+                return;
+            }
+            System.err.println("Skipped " + badLineCount + " malformed lines in " + file.fileName + ":");
+            for (String line : badLines) {
+                System.err.println("  " + line);
+            }
+            if (badLineCount > badLines.size()) {
+                System.err.println("  ... and " + (badLineCount - badLines.size()) + " more");
+            }
+        }
+    }
+}
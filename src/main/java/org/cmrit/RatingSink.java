@@ -0,0 +1,158 @@
+package org.cmrit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The RatingSink owns one rating output file (e.g. codechef_ratings.txt). Scrapers enqueue records with
+ * {@link #write(String, String, int)} from any thread, and a single consumer thread drains the queue in batches into
+ * one open file channel. The file is flushed to disk at least every {@link #FLUSH_INTERVAL_MILLIS} and once more on
+ * {@link #close()}, so a crash loses at most the last interval of records while no record ever costs an
+ * open/write/close cycle of its own.
+ */
+class RatingSink implements AutoCloseable {
+
+    // Maximum time a written record may wait before it is forced to disk
+    private static final long FLUSH_INTERVAL_MILLIS = 1_000;
+    // Maximum number of records written in one batch
+    private static final int BATCH_SIZE = 512;
+
+    // Marks the end of the queue; compared by identity
+    private static final String END = new String("END");
+
+    private final String fileName;
+    private final FileChannel channel;
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    private final Thread consumer;
+    private volatile IOException failure;
+    private boolean closed;
+
+    private RatingSink(String fileName, boolean append) throws IOException {
+        this.fileName = fileName;
+        this.channel = FileChannel.open(Path.of(fileName), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                append ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+        this.consumer = Thread.ofPlatform().daemon().name("rating-sink-" + fileName).start(this::drain);
+    }
+
+    /**
+     * Creates or clears a rating file and starts its consumer thread.
+     *
+     * @param  fileName  the rating file, e.g. "codechef_ratings.txt"
+     * @return           the sink writing to the file
+     */
+    static RatingSink open(String fileName) {
+        return open(fileName, false);
+    }
+
+    /**
+     * Opens a rating file and starts its consumer thread.
+     *
+     * @param  fileName  the rating file, e.g. "codechef_ratings.txt"
+     * @param  append    true to keep the records already in the file, e.g. when resuming a run
+     * @return           the sink writing to the file
+     */
+    static RatingSink open(String fileName, boolean append) {
+        try {
+            return new RatingSink(fileName, append);
+        } catch (IOException e) {
+            System.err.println("Error opening " + fileName + ": " + e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Enqueues one rating record. Never blocks on disk I/O.
+     *
+     * @param  handle          the student handle
+     * @param  platformHandle  the handle on the platform
+     * @param  rating          the rating
+     */
+    void write(String handle, String platformHandle, int rating) {
+        queue.add(handle + "," + platformHandle + "," + rating + "\n");
+    }
+
+    private void drain() {
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        long lastForce = System.currentTimeMillis();
+        boolean dirty = false;
+        try {
+            while (true) {
+                String record = queue.poll(FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                boolean end = false;
+                if (record != null) {
+                    batch.add(record);
+                    queue.drainTo(batch, BATCH_SIZE - 1);
+                    if (batch.get(batch.size() - 1) == END) {
+                        batch.remove(batch.size() - 1);
+                        end = true;
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    batch.clear();
+                    dirty = true;
+                }
+                long now = System.currentTimeMillis();
+                if (dirty && (end || now - lastForce >= FLUSH_INTERVAL_MILLIS)) {
+                    channel.force(false);
+                    lastForce = now;
+                    dirty = false;
+                }
+                if (end) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+            System.err.println("Error writing " + fileName + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writeBatch(List<String> batch) throws IOException {
+        StringBuilder sb = new StringBuilder(batch.size() * 32);
+        for (String record : batch) {
+            sb.append(record);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(sb.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Writes every enqueued record, forces the file to disk and closes it.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        queue.add(END);
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            System.err.println("Interrupted while closing " + fileName);
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            System.err.println("Error closing " + fileName + ": " + e.getMessage());
+        }
+        if (failure != null) {
+            throw new RuntimeException("Error writing " + fileName, failure);
+        }
+    }
+}
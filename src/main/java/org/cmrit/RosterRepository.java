@@ -0,0 +1,194 @@
+package org.cmrit;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The RosterRepository is the only place that reads and writes the participant roster (the users_data table of the
+ * cmrit database). It uses the shared connection of that database, so the pragmas are applied once per process
+ * and its prepared statements are reused by every query.
+ *
+ * The whole roster is read in one scan and kept in memory; every CLI mode then takes the users it needs from that
+ * snapshot (e.g. {@link #activeUsers(String)} for the handles of one platform that exist), instead of each mode
+ * running its own query.
+ */
+class RosterRepository {
+
+    private static final String DB_NAME = "cmrit";
+
+    // Platforms as named by the User constructor, each with a <platform>_handle and <platform>_url_exists column
+    static final List<String> PLATFORMS = List.of("codeforces", "geeksforgeeks", "leetcode", "codechef", "hackerrank");
+
+    private static final String CREATE_TABLE_SQL = "CREATE TABLE IF NOT EXISTS " +
+            "users_data (" +
+            "handle TEXT PRIMARY KEY," +
+            "geeksforgeeks_handle TEXT," +
+            "codeforces_handle TEXT," +
+            "leetcode_handle TEXT," +
+            "codechef_handle TEXT," +
+            "hackerrank_handle TEXT," +
+            "codeforces_url_exists INTEGER," +
+            "geeksforgeeks_url_exists INTEGER," +
+            "leetcode_url_exists INTEGER," +
+            "codechef_url_exists INTEGER," +
+            "hackerrank_url_exists INTEGER)";
+
+    private static final String INSERT_DATA_SQL = "REPLACE INTO users_data " +
+            "(handle, geeksforgeeks_handle, codeforces_handle, leetcode_handle, codechef_handle, hackerrank_handle, " +
+            "geeksforgeeks_url_exists, codeforces_url_exists, leetcode_url_exists, codechef_url_exists, hackerrank_url_exists) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_ALL_SQL = "SELECT handle, " +
+            "codeforces_handle, geeksforgeeks_handle, leetcode_handle, codechef_handle, hackerrank_handle, " +
+            "codeforces_url_exists, geeksforgeeks_url_exists, leetcode_url_exists, codechef_url_exists, hackerrank_url_exists " +
+            "FROM users_data";
+
+    static final String CSV_HEADER = "Handle,GeeksForGeeks Handle,Codeforces Handle,LeetCode Handle,CodeChef Handle,HackerRank Handle," +
+            "GeeksForGeeks URL Exists,Codeforces URL Exists,LeetCode URL Exists,CodeChef URL Exists,HackerRank URL Exists";
+
+    private static RosterRepository instance;
+
+    private final SqliteDatabase db;
+    private List<Participant> snapshot;
+
+    private RosterRepository(SqliteDatabase db) throws SQLException {
+        this.db = db;
+        db.execute(CREATE_TABLE_SQL);
+    }
+
+    /**
+     * Returns the repository of the process, opening the cmrit database on first use.
+     *
+     * @return  the repository
+     * @throws SQLException  if the database cannot be opened
+     */
+    static synchronized RosterRepository get() throws SQLException {
+        if (instance == null) {
+            instance = new RosterRepository(SqliteDatabase.shared(DB_NAME));
+        }
+        return instance;
+    }
+
+    /**
+     * Loads the participant CSV into the roster, replacing the rows of the handles it contains.
+     *
+     * @param  path  the CSV file
+     * @return       the number of rows loaded
+     * @throws IOException   if the CSV cannot be read
+     * @throws SQLException  if the rows cannot be written
+     */
+    synchronized int importCsv(String path) throws IOException, SQLException {
+        List<String[]> rows = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(path))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // skip header and last 2 rows
+                if (line.equals(CSV_HEADER)) continue;
+                if (line.startsWith("None") || line.startsWith("TOTAL")) continue;
+                rows.add(line.split(","));
+            }
+        }
+
+        // Insert every row in one transaction
+        int written = db.writeBatched(INSERT_DATA_SQL, rows, (preparedStatement, data) -> {
+            for (int i = 0; i < data.length; i++) {
+                if (i == 6 || i == 7 || i == 8 || i == 9 || i == 10) {
+                    preparedStatement.setBoolean(i + 1, Boolean.parseBoolean(data[i])); // URL Exists (true or false)
+                } else {
+                    preparedStatement.setString(i + 1, data[i]);
+                }
+            }
+        });
+        snapshot = null;
+        return written;
+    }
+
+    /**
+     * Returns a fresh User for every participant whose handle on a platform exists.
+     *
+     * @param  platform  the platform, one of PLATFORMS
+     * @return           the users, each carrying only its handle on that platform
+     * @throws SQLException  if the roster cannot be read
+     */
+    synchronized ArrayList<User> activeUsers(String platform) throws SQLException {
+        int index = PLATFORMS.indexOf(platform);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown platform: " + platform);
+        }
+        ArrayList<User> users = new ArrayList<>();
+        for (Participant participant : participants()) {
+            String platformHandle = participant.activeHandle(index);
+            if (platformHandle != null) {
+                users.add(new User(participant.handle, platform, platformHandle));
+            }
+        }
+        return users;
+    }
+
+    /**
+     * Returns a fresh User for every participant, carrying all of their handles whether they exist or not.
+     *
+     * @return  the users by handle, in roster order
+     * @throws SQLException  if the roster cannot be read
+     */
+    synchronized Map<String, User> allUsers() throws SQLException {
+        Map<String, User> users = new LinkedHashMap<>();
+        for (Participant participant : participants()) {
+            String[] handles = participant.handles;
+            users.put(participant.handle, new User(participant.handle, handles[0], handles[1], handles[2], handles[3], handles[4]));
+        }
+        return users;
+    }
+
+    // The roster snapshot, read with one scan on first use
+    private List<Participant> participants() throws SQLException {
+        if (snapshot != null) {
+            return snapshot;
+        }
+        List<Participant> participants = new ArrayList<>();
+        PreparedStatement select = db.prepare(SELECT_ALL_SQL);
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                String[] handles = new String[PLATFORMS.size()];
+                int exists = 0;
+                for (int i = 0; i < handles.length; i++) {
+                    handles[i] = resultSet.getString(PLATFORMS.get(i) + "_handle");
+                    if (resultSet.getInt(PLATFORMS.get(i) + "_url_exists") == 1) {
+                        exists |= 1 << i;
+                    }
+                }
+                participants.add(new Participant(resultSet.getString("handle"), handles, exists));
+            }
+        }
+        snapshot = participants;
+        return snapshot;
+    }
+
+    /**
+     * One row of the roster: the handles in PLATFORMS order and a bit per platform whose handle exists.
+     */
+    private static class Participant {
+        final String handle;
+        final String[] handles;
+        final int exists;
+
+        Participant(String handle, String[] handles, int exists) {
+            this.handle = handle;
+            this.handles = handles;
+            this.exists = exists;
+        }
+
+        // The handle on the platform at an index of PLATFORMS if it exists there, otherwise null
+        String activeHandle(int platform) {
+            return (exists & (1 << platform)) != 0 ? handles[platform] : null;
+        }
+    }
+}
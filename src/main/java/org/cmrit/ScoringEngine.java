@@ -0,0 +1,173 @@
+package org.cmrit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The ScoringEngine turns the ratings of every user into the leaderboard order. Each platform rating is scaled to
+ * the best rating on that platform (0..100) and the scaled ratings are combined with the platform weights of a
+ * {@link ScoringProfile} into the user's percentile.
+ *
+ * Everything happens in memory over primitive arrays: one pass copies the ratings out of the users into one column
+ * per platform and finds the per-platform maxima, a second pass scales each column once and adds it into the
+ * percentiles of every profile, and the users are then sorted by percentile per profile. Ranking by several profiles
+ * therefore costs one extra multiply-add per user, platform and profile, plus a sort.
+ */
+class ScoringEngine {
+
+    // Platform columns, in the order of the profile weights
+    static final int CODEFORCES = 0;
+    static final int GEEKSFORGEEKS = 1;
+    static final int GEEKSFORGEEKS_PRACTICE = 2;
+    static final int LEETCODE = 3;
+    static final int CODECHEF = 4;
+    static final int HACKERRANK = 5;
+
+    static final int PLATFORMS = 6;
+
+    // Names of the platform columns, as used by the history and the query server
+    static final List<String> PLATFORM_NAMES = List.of("codeforces", "geeksforgeeks", "geeksforgeeks_practice", "leetcode", "codechef", "hackerrank");
+
+    // Leaderboard order: decreasing percentile, then handle
+    static final Comparator<User> ORDER = (a, b) -> compare(a.getPercentile(), a.getHandle(), b.getPercentile(), b.getHandle());
+
+    private ScoringEngine() {
+    }
+
+    /**
+     * The users in the order of one profile, with their percentiles under it.
+     */
+    static class Ranking {
+        final ScoringProfile profile;
+        final List<User> users;
+        // percentiles[i] belongs to users.get(i)
+        final double[] percentiles;
+
+        Ranking(ScoringProfile profile, List<User> users, double[] percentiles) {
+            this.profile = profile;
+            this.users = users;
+            this.percentiles = percentiles;
+        }
+    }
+
+    /**
+     * Sets the percentile of every user under the primary profile and returns the users by decreasing percentile.
+     * Users with the same percentile are ordered by handle, so the order does not depend on the iteration order of
+     * the input.
+     *
+     * @param  users  the users to rank
+     * @return        the ranked users
+     */
+    static List<User> rank(Collection<User> users) {
+        return rankAll(users, List.of(ScoringProfile.primary())).get(0).users;
+    }
+
+    /**
+     * Ranks the users under every profile in one pass over the ratings. The percentiles of the first profile are set
+     * on the users.
+     *
+     * @param  users     the users to rank
+     * @param  profiles  the profiles, the one of the leaderboard first
+     * @return           one ranking per profile, in the same order
+     */
+    static List<Ranking> rankAll(Collection<User> users, List<ScoringProfile> profiles) {
+        List<User> input = new ArrayList<>(users);
+        int n = input.size();
+        double[][] ratings = new double[PLATFORMS][n];
+        int[] max = new int[PLATFORMS];
+
+        // Pass 1: ratings and per-platform maxima
+        int[] userRatings = new int[PLATFORMS];
+        for (int i = 0; i < n; i++) {
+            ratingsOf(input.get(i), userRatings);
+            for (int p = 0; p < PLATFORMS; p++) {
+                ratings[p][i] = userRatings[p];
+                max[p] = Math.max(max[p], userRatings[p]);
+            }
+        }
+
+        // Pass 2: percentiles of every profile. A platform where nobody has a rating adds nothing, rather than
+        // dividing by zero.
+        double[][] percentiles = new double[profiles.size()][n];
+        double[] weights = new double[profiles.size()];
+        for (int p = 0; p < PLATFORMS; p++) {
+            if (max[p] == 0) {
+                continue;
+            }
+            for (int k = 0; k < weights.length; k++) {
+                weights[k] = profiles.get(k).weights[p];
+            }
+            accumulate(ratings[p], max[p], weights, percentiles);
+        }
+        for (int i = 0; i < n; i++) {
+            input.get(i).setPercentile(percentiles[0][i]);
+        }
+
+        List<Ranking> rankings = new ArrayList<>(profiles.size());
+        for (int k = 0; k < profiles.size(); k++) {
+            double[] scores = percentiles[k];
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> compare(scores[a], input.get(a).getHandle(), scores[b], input.get(b).getHandle()));
+            List<User> ranked = new ArrayList<>(n);
+            double[] rankedScores = new double[n];
+            for (int position = 0; position < n; position++) {
+                ranked.add(input.get(order[position]));
+                rankedScores[position] = scores[order[position]];
+            }
+            rankings.add(new Ranking(profiles.get(k), ranked, rankedScores));
+        }
+        return rankings;
+    }
+
+    /**
+     * Adds one scaled platform column into the percentiles of every profile:
+     * {@code percentiles[k][i] += column[i] / max * 100 * weights[k]}. Profiles that do not weigh the platform are
+     * skipped.
+     *
+     * @param  column       the ratings on the platform, one per user
+     * @param  max          the best rating on the platform, not 0
+     * @param  weights      the weight of the platform in each profile
+     * @param  percentiles  the percentiles of each profile, one per user
+     */
+    static void accumulate(double[] column, int max, double[] weights, double[][] percentiles) {
+        for (int i = 0; i < column.length; i++) {
+            double scaled = column[i] / max * 100;
+            for (int k = 0; k < weights.length; k++) {
+                if (weights[k] != 0) {
+                    percentiles[k][i] += scaled * weights[k];
+                }
+            }
+        }
+    }
+
+    /**
+     * Copies the ratings of a user into an array in platform column order, with missing ratings as 0.
+     *
+     * @param  user     the user
+     * @param  ratings  the array to fill, of length PLATFORMS
+     */
+    static void ratingsOf(User user, int[] ratings) {
+        ratings[CODEFORCES] = valueOf(user.getCodeforcesRating());
+        ratings[GEEKSFORGEEKS] = valueOf(user.getGeeksforgeeksRating());
+        ratings[GEEKSFORGEEKS_PRACTICE] = valueOf(user.getgeeksforgeeksPracticeRating());
+        ratings[LEETCODE] = valueOf(user.getLeetcodeRating());
+        ratings[CODECHEF] = valueOf(user.getCodechefRating());
+        ratings[HACKERRANK] = valueOf(user.getHackerrankRating());
+    }
+
+    // Compares two leaderboard positions by decreasing percentile, then by handle
+    static int compare(double percentileA, String handleA, double percentileB, String handleB) {
+        int byPercentile = Double.compare(percentileB, percentileA);
+        return byPercentile != 0 ? byPercentile : handleA.compareTo(handleB);
+    }
+
+    private static int valueOf(Integer rating) {
+        return rating == null ? 0 : rating;
+    }
+}
@@ -0,0 +1,131 @@
+package org.cmrit;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * A ScoringProfile is one way of weighting the platform ratings into a percentile. The profiles are read from
+ * src/main/resources/scoring_profiles.properties, one per line:
+ * <pre>
+ *   contest = codeforces:0.25, geeksforgeeks:0.25, leetcode:0.25, codechef:0.25
+ * </pre>
+ * Platforms are named as in {@link ScoringEngine#PLATFORM_NAMES}; platforms a profile does not name weigh 0. The
+ * profile named "default" ranks the leaderboard itself and is always first; without one the built-in weights are
+ * used. Every other profile only produces an additional ranking.
+ */
+class ScoringProfile {
+
+    static final String CONFIG_FILE = "src//main//resources//scoring_profiles.properties";
+    static final String DEFAULT_NAME = "default";
+
+    static final ScoringProfile BUILT_IN = new ScoringProfile(DEFAULT_NAME, new double[]{0.3, 0.3, 0.1, 0.1, 0.1, 0.1});
+
+    private static List<ScoringProfile> configured;
+
+    final String name;
+    // Weights in platform column order
+    final double[] weights;
+
+    ScoringProfile(String name, double[] weights) {
+        if (weights.length != ScoringEngine.PLATFORMS) {
+            throw new IllegalArgumentException("Expected " + ScoringEngine.PLATFORMS + " weights, got " + weights.length);
+        }
+        this.name = name;
+        this.weights = weights.clone();
+    }
+
+    /**
+     * Returns the configured profiles, reading the config file on first use.
+     *
+     * @return  the profiles, the default one first
+     */
+    static synchronized List<ScoringProfile> all() {
+        if (configured == null) {
+            configured = load(CONFIG_FILE);
+        }
+        return configured;
+    }
+
+    /**
+     * Returns the profile that ranks the leaderboard.
+     *
+     * @return  the default profile
+     */
+    static ScoringProfile primary() {
+        return all().get(0);
+    }
+
+    /**
+     * Reads profiles from a properties file. A missing file yields only the built-in default; a malformed profile is
+     * reported and skipped.
+     *
+     * @param  path  the properties file
+     * @return       the profiles, the default one first and the others by name
+     */
+    static List<ScoringProfile> load(String path) {
+        Properties properties = new Properties();
+        try (Reader reader = new FileReader(path)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            System.err.println("Error reading scoring profiles, using the built-in weights: " + e.getMessage());
+            return List.of(BUILT_IN);
+        }
+
+        ScoringProfile primary = BUILT_IN;
+        List<ScoringProfile> others = new ArrayList<>();
+        List<String> names = new ArrayList<>(properties.stringPropertyNames());
+        Collections.sort(names);
+        for (String name : names) {
+            try {
+                ScoringProfile profile = new ScoringProfile(name, parseWeights(properties.getProperty(name)));
+                if (name.equals(DEFAULT_NAME)) {
+                    primary = profile;
+                } else {
+                    others.add(profile);
+                }
+            } catch (IllegalArgumentException e) {
+                System.err.println("Skipping scoring profile " + name + ": " + e.getMessage());
+            }
+        }
+        List<ScoringProfile> profiles = new ArrayList<>();
+        profiles.add(primary);
+        profiles.addAll(others);
+        return Collections.unmodifiableList(profiles);
+    }
+
+    // Parses "platform:weight, platform:weight, ..."
+    private static double[] parseWeights(String value) {
+        double[] weights = new double[ScoringEngine.PLATFORMS];
+        for (String term : value.split(",")) {
+            term = term.trim();
+            if (term.isEmpty()) {
+                continue;
+            }
+            int colon = term.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("expected platform:weight, got " + term);
+            }
+            String platform = term.substring(0, colon).trim();
+            int column = ScoringEngine.PLATFORM_NAMES.indexOf(platform);
+            if (column < 0) {
+                throw new IllegalArgumentException("unknown platform " + platform);
+            }
+            double weight;
+            try {
+                weight = Double.parseDouble(term.substring(colon + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid weight in " + term);
+            }
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("weights must be finite and not negative: " + term);
+            }
+            weights[column] = weight;
+        }
+        return weights;
+    }
+}
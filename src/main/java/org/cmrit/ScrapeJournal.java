@@ -0,0 +1,237 @@
+package org.cmrit;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The ScrapeJournal is the checkpoint of one platform run, kept next to its rating file as
+ * &lt;platform&gt;_journal.txt. It lets a crashed or killed run resume where it stopped instead of starting from the
+ * first handle again, and lets the retry_failed mode re-fetch only the handles that failed.
+ *
+ * The rating file itself records which handles are completed: every line in it is a finished handle. The journal
+ * only adds the run markers and the failed handles:
+ * <pre>
+ *   START                          a run began and cleared the rating file
+ *   FAIL,handle,platformHandle     a handle could not be fetched
+ *   DONE                           the run finished
+ *   RETRY                          the retry_failed mode reopened a finished run
+ * </pre>
+ * A run resumes (appending to the rating file and skipping completed handles) when the journal was started but not
+ * finished, or was reopened for a retry.
+ */
+class ScrapeJournal {
+
+    private static final String START = "START";
+    private static final String DONE = "DONE";
+    private static final String RETRY = "RETRY";
+    private static final String FAIL = "FAIL";
+
+    private final String platform;
+    private final boolean resuming;
+    private final Set<String> completed;
+    private final FileWriter writer;
+
+    private ScrapeJournal(String platform, boolean resuming, Set<String> completed) throws IOException {
+        this.platform = platform;
+        this.resuming = resuming;
+        this.completed = completed;
+        this.writer = new FileWriter(journalFile(platform), resuming);
+        if (!resuming) {
+            writeLine(START);
+        }
+    }
+
+    /**
+     * Opens the journal of a platform run. If the previous run did not finish (or was reopened for a retry) the
+     * journal resumes it and the handles already in the rating file are reported as completed; otherwise a new run
+     * is started.
+     *
+     * @param  platform    the platform name, e.g. "codechef"
+     * @param  ratingFile  the rating file of the platform, e.g. "codechef_ratings.txt"
+     * @return             the journal of the run
+     */
+    static ScrapeJournal open(String platform, String ratingFile) {
+        try {
+            boolean resuming = isUnfinished(platform);
+            Set<String> completed = ConcurrentHashMap.newKeySet();
+            if (resuming) {
+                trimPartialLine(ratingFile);
+                completed.addAll(readCompletedHandles(ratingFile));
+                System.out.println("Resuming " + platform + " run, " + completed.size() + " handles already completed.");
+            }
+            return new ScrapeJournal(platform, resuming, completed);
+        } catch (IOException e) {
+            System.err.println("Error opening journal for " + platform + ": " + e.getMessage());
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Reopens a finished run so that the next {@link #open} resumes it and fetches only the handles that are not
+     * in the rating file, i.e. the ones that failed.
+     *
+     * @param  platform    the platform name
+     * @param  ratingFile  the rating file of the platform
+     * @return             the number of handles that failed in the previous run and are still missing
+     */
+    static int prepareRetry(String platform, String ratingFile) {
+        File file = journalFile(platform);
+        if (!file.exists()) {
+            return 0;
+        }
+        try {
+            Set<String> completed = readCompletedHandles(ratingFile);
+            int missing = 0;
+            for (String handle : readFailedHandles(platform)) {
+                if (!completed.contains(handle)) {
+                    missing++;
+                }
+            }
+            if (missing > 0 && !isUnfinished(platform)) {
+                try (FileWriter retry = new FileWriter(file, true)) {
+                    retry.write(RETRY + "\n");
+                }
+            }
+            return missing;
+        } catch (IOException e) {
+            System.err.println("Error reading journal for " + platform + ": " + e.getMessage());
+            return 0;
+        }
+    }
+
+    boolean isResuming() {
+        return resuming;
+    }
+
+    /**
+     * Checks whether a handle was already written to the rating file by the run being resumed.
+     *
+     * @param  handle  the student handle
+     * @return         true if the handle does not need to be fetched again
+     */
+    boolean isCompleted(String handle) {
+        return completed.contains(handle);
+    }
+
+    /**
+     * Records a handle that could not be fetched.
+     *
+     * @param  handle          the student handle
+     * @param  platformHandle  the handle on the platform
+     */
+    void fail(String handle, String platformHandle) {
+        writeLine(FAIL + "," + handle + "," + platformHandle);
+    }
+
+    /**
+     * Marks the run as finished and closes the journal. A run that never reaches this point is resumed next time.
+     */
+    void finish() {
+        writeLine(DONE);
+        close();
+    }
+
+    /**
+     * Closes the journal without finishing the run.
+     */
+    synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            System.err.println("Error closing journal for " + platform + ": " + e.getMessage());
+        }
+    }
+
+    private synchronized void writeLine(String line) {
+        try {
+            writer.write(line + "\n");
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Error writing journal for " + platform + ": " + e.getMessage());
+        }
+    }
+
+    private static File journalFile(String platform) {
+        return new File(platform + "_journal.txt");
+    }
+
+    // A run is unfinished if its last marker is START or RETRY
+    private static boolean isUnfinished(String platform) throws IOException {
+        File file = journalFile(platform);
+        if (!file.exists()) {
+            return false;
+        }
+        String state = null;
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(START) || line.equals(DONE) || line.equals(RETRY)) {
+                    state = line;
+                }
+            }
+        }
+        return START.equals(state) || RETRY.equals(state);
+    }
+
+    // Student handles of the FAIL lines of the last run
+    private static Set<String> readFailedHandles(String platform) throws IOException {
+        Set<String> failed = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(journalFile(platform)))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.equals(START)) {
+                    failed.clear();
+                } else if (line.startsWith(FAIL + ",")) {
+                    failed.add(line.split(",", 3)[1]);
+                }
+            }
+        }
+        return failed;
+    }
+
+    // Drops a line that a crash cut off half way, so that appending does not glue a new record onto it
+    private static void trimPartialLine(String ratingFile) throws IOException {
+        File file = new File(ratingFile);
+        if (!file.exists()) {
+            return;
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            long end = raf.length();
+            while (end > 0) {
+                raf.seek(end - 1);
+                if (raf.read() == '\n') {
+                    break;
+                }
+                end--;
+            }
+            raf.setLength(end);
+        }
+    }
+
+    // The first column of every line of a rating file
+    private static Set<String> readCompletedHandles(String ratingFile) throws IOException {
+        File file = new File(ratingFile);
+        if (!file.exists()) {
+            return Collections.emptySet();
+        }
+        Set<String> completed = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] data = line.split(",");
+                if (data.length == 3) {
+                    completed.add(data[0]);
+                }
+            }
+        }
+        return completed;
+    }
+}
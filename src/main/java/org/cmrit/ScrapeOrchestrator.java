@@ -0,0 +1,271 @@
+package org.cmrit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ScrapeOrchestrator runs the platform scrapers side by side, one virtual thread per platform, so that a full
+ * run takes roughly as long as the slowest platform instead of the sum of all of them.
+ *
+ * All scrapers share one global request budget: every outgoing request is wrapped in {@link #withRequestPermit},
+ * which caps the number of requests in flight across every platform at {@link #MAX_IN_FLIGHT_REQUESTS}. Each
+ * platform also registers a {@link ScrapeProgress} so that a background reporter can print how far every platform
+ * has got while they run concurrently.
+ */
+class ScrapeOrchestrator {
+
+    // Maximum number of requests that may be in flight across all platforms at once
+    static final int MAX_IN_FLIGHT_REQUESTS = 16;
+
+    // How often the background reporter prints the progress of every platform
+    private static final long PROGRESS_REPORT_INTERVAL_MILLIS = 30_000;
+
+    private static final Semaphore REQUEST_BUDGET = new Semaphore(MAX_IN_FLIGHT_REQUESTS, true);
+    private static final Map<String, ScrapeProgress> PROGRESS = new ConcurrentHashMap<>();
+
+    private ScrapeOrchestrator() {
+    }
+
+    /**
+     * A scraper run for a single platform.
+     */
+    @FunctionalInterface
+    interface PlatformTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * Work done for a single item (usually a handle) of a platform.
+     */
+    @FunctionalInterface
+    interface ItemTask<T> {
+        void run(T item) throws InterruptedException;
+    }
+
+    /**
+     * A single network request made by a scraper.
+     */
+    @FunctionalInterface
+    interface Request<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * Runs a request while holding a permit from the global request budget.
+     *
+     * @param  request  the request to run
+     * @return          the value returned by the request
+     * @throws IOException  if the request fails or the thread is interrupted while waiting for a permit
+     */
+    static <T> T withRequestPermit(Request<T> request) throws IOException {
+        acquireRequestPermit();
+        try {
+            return request.call();
+        } finally {
+            releaseRequestPermit();
+        }
+    }
+
+    // Takes a permit from the global request budget, blocking until one is free
+    private static void acquireRequestPermit() throws IOException {
+        try {
+            REQUEST_BUDGET.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a request permit", e);
+        }
+    }
+
+    // Returns a permit taken by acquireRequestPermit
+    private static void releaseRequestPermit() {
+        REQUEST_BUDGET.release();
+    }
+
+    /**
+     * Runs a task for every item on virtual threads, with at most maxInFlight tasks running at once, and waits for
+     * all of them to finish. A task that throws does not stop the others: its failure is reported with the item, and
+     * once every task has finished the failures are rethrown together.
+     *
+     * @param  items        the items to process
+     * @param  maxInFlight  the maximum number of tasks running at the same time
+     * @param  task         the task to run for each item
+     * @throws InterruptedException  if the thread is interrupted while waiting
+     * @throws RuntimeException      if any task threw, with the first failure as its cause and the others suppressed
+     */
+    static <T> void forEachConcurrently(Collection<T> items, int maxInFlight, ItemTask<T> task) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Queue<RuntimeException> failures = new ConcurrentLinkedQueue<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (T item : items) {
+                inFlight.acquire();
+                executor.submit(() -> {
+                    try {
+                        task.run(item);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (RuntimeException e) {
+                        System.err.println("Error processing " + item + ": " + e);
+                        failures.add(e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        if (!failures.isEmpty()) {
+            RuntimeException failure = new RuntimeException(failures.size() + " of " + items.size() + " tasks failed", failures.poll());
+            failures.forEach(failure::addSuppressed);
+            throw failure;
+        }
+    }
+
+    /**
+     * Registers (or resets) the progress counter of a platform.
+     *
+     * @param  platform  the platform name, e.g. "codechef"
+     * @param  total     the number of handles the platform is going to scrape
+     * @return           the progress counter the scraper should advance
+     */
+    static ScrapeProgress progress(String platform, int total) {
+        ScrapeProgress progress = new ScrapeProgress(platform, total);
+        PROGRESS.put(platform, progress);
+        return progress;
+    }
+
+    /**
+     * Runs every platform task on its own virtual thread and waits for all of them to finish. A failing platform
+     * does not stop the others; its error is reported in the returned results instead.
+     *
+     * @param  tasks  platform name to scraper task, in the order results should be reported
+     * @return        one result per platform, in the same order as the tasks
+     */
+    static List<PlatformResult> runAll(Map<String, PlatformTask> tasks) {
+        Map<String, Future<PlatformResult>> futures = new LinkedHashMap<>();
+        List<PlatformResult> results = new ArrayList<>();
+
+        Thread reporter = Thread.ofVirtual().name("scrape-progress").start(ScrapeOrchestrator::reportProgress);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Map.Entry<String, PlatformTask> entry : tasks.entrySet()) {
+                String platform = entry.getKey();
+                PlatformTask task = entry.getValue();
+                futures.put(platform, executor.submit(() -> runPlatform(platform, task)));
+            }
+
+            for (Map.Entry<String, Future<PlatformResult>> entry : futures.entrySet()) {
+                try {
+                    results.add(entry.getValue().get());
+                } catch (ExecutionException e) {
+                    results.add(new PlatformResult(entry.getKey(), false, 0, e.getCause().toString()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    results.add(new PlatformResult(entry.getKey(), false, 0, "Interrupted"));
+                }
+            }
+        } finally {
+            reporter.interrupt();
+        }
+
+        System.out.println("========================================");
+        for (PlatformResult result : results) {
+            System.out.println(result);
+        }
+        System.out.println("========================================");
+        return results;
+    }
+
+    private static PlatformResult runPlatform(String platform, PlatformTask task) {
+        long start = System.currentTimeMillis();
+        try {
+            task.run();
+            return new PlatformResult(platform, true, System.currentTimeMillis() - start, null);
+        } catch (Exception e) {
+            System.err.println("Error scraping " + platform + ": " + e);
+            return new PlatformResult(platform, false, System.currentTimeMillis() - start, e.toString());
+        }
+    }
+
+    private static void reportProgress() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.sleep(PROGRESS_REPORT_INTERVAL_MILLIS);
+                StringBuilder sb = new StringBuilder("Progress:");
+                for (ScrapeProgress progress : PROGRESS.values()) {
+                    sb.append(" [").append(progress).append("]");
+                }
+                System.out.println(sb);
+            }
+        } catch (InterruptedException e) {
+            // Orchestration finished
+        }
+    }
+
+    /**
+     * Thread-safe progress counter for a single platform.
+     */
+    static class ScrapeProgress {
+        private final String platform;
+        private final int total;
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        ScrapeProgress(String platform, int total) {
+            this.platform = platform;
+            this.total = total;
+        }
+
+        // Marks one more handle as scraped and returns the new count
+        int advance() {
+            return completed.incrementAndGet();
+        }
+
+        // Marks one more handle as failed and returns the new failure count
+        int fail() {
+            return failed.incrementAndGet();
+        }
+
+        int getTotal() {
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return platform + ": " + completed.get() + "/" + total + (failed.get() > 0 ? " (" + failed.get() + " failed)" : "");
+        }
+    }
+
+    /**
+     * The outcome of one platform run.
+     */
+    static class PlatformResult {
+        final String platform;
+        final boolean succeeded;
+        final long elapsedMillis;
+        final String error;
+
+        PlatformResult(String platform, boolean succeeded, long elapsedMillis, String error) {
+            this.platform = platform;
+            this.succeeded = succeeded;
+            this.elapsedMillis = elapsedMillis;
+            this.error = error;
+        }
+
+        @Override
+        public String toString() {
+            String status = succeeded ? "completed" : "FAILED (" + error + ")";
+            return platform + " " + status + " in " + (elapsedMillis / 1000) + "s";
+        }
+    }
+}
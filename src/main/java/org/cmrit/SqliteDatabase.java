@@ -0,0 +1,218 @@
+package org.cmrit;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The SqliteDatabase is the shared write path to the cmrit and leaderboard SQLite databases. Connections are opened
+ * in WAL mode with synchronous=NORMAL, so a commit appends to the write-ahead log instead of syncing the database
+ * file, and readers are not blocked while a run writes.
+ *
+ * Bulk writes go through {@link #writeBatched}, which binds rows into batches of {@link #BATCH_SIZE} and runs them
+ * in a single transaction, instead of committing (and syncing) every row on its own. Prepared statements are cached
+ * per connection, so repeated writes with the same SQL reuse them.
+ *
+ * {@link #shared} keeps one long-lived connection per database for the whole process, closed by a shutdown hook.
+ */
+class SqliteDatabase implements AutoCloseable {
+
+    // Rows per executeBatch call
+    private static final int BATCH_SIZE = 500;
+
+    private static final Map<String, SqliteDatabase> SHARED = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> SHARED.values().forEach(SqliteDatabase::closeConnection)));
+    }
+
+    private final String dbName;
+    private final boolean shared;
+    private final Connection conn;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    private SqliteDatabase(String dbName, boolean shared) throws SQLException {
+        this.dbName = dbName;
+        this.shared = shared;
+        this.conn = DriverManager.getConnection("jdbc:sqlite:" + dbName);
+        try (Statement statement = conn.createStatement()) {
+            statement.execute("PRAGMA journal_mode = WAL");
+            statement.execute("PRAGMA synchronous = NORMAL");
+            // Several platforms may write to the same database at the same time
+            statement.execute("PRAGMA busy_timeout = 10000");
+        }
+    }
+
+    /**
+     * Opens a database.
+     *
+     * @param  dbName  the database file, e.g. "cmrit"
+     * @return         the open database
+     * @throws SQLException  if the database cannot be opened
+     */
+    static SqliteDatabase open(String dbName) throws SQLException {
+        return new SqliteDatabase(dbName, false);
+    }
+
+    /**
+     * Returns the long-lived connection of a database, opening it on first use. Closing it is a no-op; it stays
+     * open until the process exits.
+     *
+     * @param  dbName  the database file, e.g. "cmrit"
+     * @return         the shared database
+     * @throws SQLException  if the database cannot be opened
+     */
+    static SqliteDatabase shared(String dbName) throws SQLException {
+        synchronized (SHARED) {
+            SqliteDatabase db = SHARED.get(dbName);
+            if (db == null) {
+                db = new SqliteDatabase(dbName, true);
+                SHARED.put(dbName, db);
+            }
+            return db;
+        }
+    }
+
+    /**
+     * Binds one row into a prepared statement.
+     */
+    @FunctionalInterface
+    interface RowBinder<T> {
+        void bind(PreparedStatement statement, T row) throws SQLException;
+    }
+
+    /**
+     * Work run inside a transaction.
+     */
+    @FunctionalInterface
+    interface TransactionWork {
+        void run(SqliteDatabase db) throws SQLException;
+    }
+
+    Connection connection() {
+        return conn;
+    }
+
+    /**
+     * Returns the cached prepared statement for a SQL string, preparing it on first use. The statement is closed with
+     * the database and must not be closed by the caller.
+     *
+     * @param  sql  the SQL
+     * @return      the prepared statement
+     * @throws SQLException  if the SQL cannot be prepared
+     */
+    synchronized PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = conn.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Executes a statement without parameters, e.g. a CREATE TABLE.
+     *
+     * @param  sql  the SQL
+     * @throws SQLException  if the statement fails
+     */
+    void execute(String sql) throws SQLException {
+        try (Statement statement = conn.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /**
+     * Runs work in one transaction, committing it if the work completes and rolling it back otherwise. Nested calls
+     * join the outer transaction.
+     *
+     * @param  work  the work
+     * @throws SQLException  if the work or the commit fails
+     */
+    synchronized void transaction(TransactionWork work) throws SQLException {
+        if (!conn.getAutoCommit()) {
+            work.run(this);
+            return;
+        }
+        conn.setAutoCommit(false);
+        try {
+            work.run(this);
+            conn.commit();
+        } catch (SQLException | RuntimeException e) {
+            try {
+                conn.rollback();
+            } catch (SQLException rollbackError) {
+                e.addSuppressed(rollbackError);
+            }
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Writes rows with one statement in batches of BATCH_SIZE, all in one transaction (or in the caller's transaction
+     * when called from {@link #transaction}).
+     *
+     * @param  sql     the INSERT / REPLACE statement
+     * @param  rows    the rows to write
+     * @param  binder  binds one row into the statement
+     * @return         the number of rows written
+     * @throws SQLException  if a batch fails, in which case nothing is written
+     */
+    <T> int writeBatched(String sql, Iterable<T> rows, RowBinder<T> binder) throws SQLException {
+        int[] written = {0};
+        transaction(db -> {
+            PreparedStatement statement = prepare(sql);
+            int pending = 0;
+            for (T row : rows) {
+                binder.bind(statement, row);
+                statement.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    written[0] += pending;
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                written[0] += pending;
+            }
+        });
+        return written[0];
+    }
+
+    /**
+     * Copies every commit in the write-ahead log into the database file and truncates the log, so the file alone holds
+     * the whole database, e.g. before it is copied elsewhere.
+     *
+     * @throws SQLException  if the checkpoint fails
+     */
+    synchronized void checkpoint() throws SQLException {
+        execute("PRAGMA wal_checkpoint(TRUNCATE)");
+    }
+
+    @Override
+    public void close() {
+        if (!shared) {
+            closeConnection();
+        }
+    }
+
+    private synchronized void closeConnection() {
+        try {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+            statements.clear();
+            conn.close();
+        } catch (SQLException e) {
+            System.err.println("Error closing " + dbName + " database: " + e.getMessage());
+        }
+    }
+}
@@ -113,8 +113,70 @@ function populateGrid(workbook) {
 
 const updateDateElement = document.getElementById('updateDate');
 const filePath = 'Leaderboards/CurrentCMRITLeaderboard2026.xlsx';
+const jsonPath = 'Leaderboards/json';
 const repoOwner = 'gabyah92'; // GitHub username or organization name
 const repoName = 'CMRIT2026Leaderboard'; // GitHub repository name
+const rawBaseUrl = `https://raw.githubusercontent.com/${repoOwner}/${repoName}/main`;
+
+// fetch one page of the JSON export, preferring the gzip file where the browser can decompress it
+async function fetchPage(file) {
+    if (typeof DecompressionStream !== 'undefined') {
+        try {
+            const response = await fetch(`${rawBaseUrl}/${jsonPath}/${file}.gz`);
+            if (response.ok) {
+                const stream = response.body.pipeThrough(new DecompressionStream('gzip'));
+                return JSON.parse(await new Response(stream).text());
+            }
+        } catch (e) {
+            // fall back to the plain file
+        }
+    }
+    const response = await fetch(`${rawBaseUrl}/${jsonPath}/${file}`);
+    if (!response.ok) {
+        throw new Error(`Failed to fetch ${file}`);
+    }
+    return response.json();
+}
+
+// turn a columnar page into grid rows
+function pageToRows(columns, page) {
+    const rows = [];
+    const count = page.columns.length > 0 ? page.columns[0].length : 0;
+    for (let i = 0; i < count; i++) {
+        const row = {};
+        columns.forEach((column, c) => {
+            const value = page.columns[c][i];
+            row[column] = value === null || value === undefined ? '' : value;
+        });
+        rows.push(row);
+    }
+    return rows;
+}
+
+// load the paged JSON export: the first page is shown as soon as it arrives, the rest is added once loaded
+async function importJson() {
+    const response = await fetch(`${rawBaseUrl}/${jsonPath}/manifest.json`);
+    if (!response.ok) {
+        throw new Error('Failed to fetch the leaderboard manifest');
+    }
+    const manifest = await response.json();
+    if (manifest.pages.length === 0) {
+        gridApi.setGridOption('rowData', []);
+        return;
+    }
+
+    const firstPage = await fetchPage(manifest.pages[0].file);
+    let rowData = pageToRows(manifest.columns, firstPage);
+    gridApi.setGridOption('rowData', rowData);
+
+    const rest = await Promise.all(manifest.pages.slice(1).map(page => fetchPage(page.file)));
+    rest.forEach(page => {
+        rowData = rowData.concat(pageToRows(manifest.columns, page));
+    });
+    if (rest.length > 0) {
+        gridApi.setGridOption('rowData', rowData);
+    }
+}
 
 function formatDate(dateString) {
     const options = { year: 'numeric', month: 'long', day: 'numeric' };
@@ -153,7 +215,7 @@ function importExcel() {
     if (SOURCE === 'github') {
         makeRequest(
             'GET',
-            `https://raw.githubusercontent.com/${repoOwner}/${repoName}/main/${filePath}`,
+            `${rawBaseUrl}/${filePath}`,
             function (data) {
                 var workbook = convertDataToWorkbook(data);
                 populateGrid(workbook);
@@ -197,6 +259,9 @@ document.addEventListener('DOMContentLoaded', function () {
     // Create the grid passing in the div to use together with the columns & data we want to use
     gridApi = agGrid.createGrid(eGridDiv, gridOptions);
 
-    // Call importExcel function
-    importExcel();
+    // Load the paged JSON export, falling back to the spreadsheet if it is not available
+    importJson().then(updateLastUpdatedDate).catch((error) => {
+        console.error('Error loading leaderboard JSON, falling back to the spreadsheet:', error);
+        importExcel();
+    });
 });